@@ -2,6 +2,9 @@ package com.github.kaktushose.jda.commands;
 
 import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.ShardExecutors;
+import com.github.kaktushose.jda.commands.dispatching.ShutdownReport;
+import com.github.kaktushose.jda.commands.dispatching.StartupReport;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.parser.ParserSupervisor;
@@ -17,13 +20,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents an active instance of this framework and provides access to all underlying classes. This is basically
  * an abstraction of the {@link CommandDispatcher}.
  *
+ * <p>Instances don't share any state, thus multiple instances can run in the same JVM, e.g. one per shard group with
+ * separate settings and implementations.
+ *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0.0
  */
 public class JDACommands {
@@ -61,12 +68,65 @@ public class JDACommands {
         return new JDACommands(shardManager, true, clazz, packages);
     }
 
+    /**
+     * Creates a new JDACommands instance in sharded dispatch mode and starts the frameworks. Events of each shard are
+     * handed off to a dedicated executor, thus shards don't contend on the event processing. The command metadata is
+     * shared by all shards.
+     *
+     * @param shardManager the corresponding {@link ShardManager} instance
+     * @param clazz        a class of the classpath to scan
+     * @param packages     package(s) to exclusively scan
+     * @return a new JDACommands instance
+     * @see ShardExecutors
+     */
+    public static JDACommands startSharded(@NotNull ShardManager shardManager, @NotNull Class<?> clazz, @NotNull String... packages) {
+        JDACommands jdaCommands = new JDACommands(shardManager, true, clazz, packages);
+        jdaCommands.getParserSupervisor().setShardExecutors(new ShardExecutors());
+        return jdaCommands;
+    }
+
     /**
      * Shuts down this JDACommands instance making it unable to receive any events from Discord.
      */
     public void shutdown() {
-        commandDispatcher.shutdown();
-        log.info("Finished shutdown!");
+        shutdown(CommandDispatcher.DEFAULT_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Shuts down this JDACommands instance making it unable to receive any events from Discord. Waits up to the given
+     * timeout for in-flight commands to complete and flushes pending state afterwards.
+     *
+     * @param timeout the maximum time to wait for in-flight commands
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return a {@link ShutdownReport} reporting what was abandoned
+     * @see CommandDispatcher#shutdown(long, TimeUnit)
+     */
+    public ShutdownReport shutdown(long timeout, @NotNull TimeUnit unit) {
+        ShutdownReport report = commandDispatcher.shutdown(timeout, unit);
+        if (report.isClean()) {
+            log.info("Finished shutdown!");
+        } else {
+            log.warn("Finished shutdown with abandoned work: {}", report);
+        }
+        return report;
+    }
+
+    /**
+     * Whether this JDACommands instance is active, i.e. it has been started and not been shut down yet.
+     *
+     * @return {@code true} if this instance is active
+     */
+    public boolean isActive() {
+        return commandDispatcher.isActive();
+    }
+
+    /**
+     * Gets the {@link StartupReport} holding the wall time, allocated bytes and loaded classes of each startup phase.
+     *
+     * @return the {@link StartupReport}
+     */
+    public StartupReport getStartupReport() {
+        return commandDispatcher.getStartupReport();
     }
 
     /**
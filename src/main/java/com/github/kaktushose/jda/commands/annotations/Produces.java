@@ -1,5 +1,7 @@
 package com.github.kaktushose.jda.commands.annotations;
 
+import com.github.kaktushose.jda.commands.dependency.Scope;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -12,6 +14,11 @@ import java.lang.annotation.Target;
  * {@link CommandController} that are annotated with {@link Inject}. The access modifier of a producer method must be
  * public.
  *
+ * <p>Dependencies are resolved by assignable type, thus a producer returning an implementation can be injected into
+ * a field of the interface type. The {@link #scope()} defines when the producer method gets called. Fields of type
+ * {@link java.util.function.Supplier Supplier} get a supplier of the dependency injected, which allows
+ * {@link Scope#LAZY lazy} dependencies to be created on first use instead of on startup.
+ *
  * <p>Classes containing producer methods will be found automatically on startup. They can also be registered via
  * {@link com.github.kaktushose.jda.commands.dependency.DependencyInjector#registerProvider(Object)
  * DependencyInjector.registerProvider(Object)}
@@ -20,12 +27,20 @@ import java.lang.annotation.Target;
  * actual command classes.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Inject
+ * @see Scope
  * @see com.github.kaktushose.jda.commands.dependency.DependencyInjector DependencyInjector
  * @since 1.0.0
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Produces {
+
+    /**
+     * Gets the {@link Scope} of the producer.
+     *
+     * @return the {@link Scope} of the producer
+     */
+    Scope scope() default Scope.SINGLETON;
 }
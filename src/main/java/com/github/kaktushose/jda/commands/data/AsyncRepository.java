@@ -0,0 +1,98 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous counterpart of {@link Repository}. All operations return a {@link CompletableFuture} instead of
+ * blocking the calling thread, thus callers can pipeline storage work. Use {@link AsyncRepositoryAdapter} to access an
+ * existing {@link Repository} asynchronously.
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see Repository
+ * @see AsyncRepositoryAdapter
+ * @since 2.3.0
+ */
+public interface AsyncRepository<T> {
+
+    /**
+     * Returns the entity count.
+     *
+     * @return a {@link CompletableFuture} completing with the entity count
+     */
+    CompletableFuture<Long> count();
+
+    /**
+     * Delete an entity by id.
+     *
+     * @param id the id of the entity
+     * @return a {@link CompletableFuture} completing once the entity is deleted
+     */
+    CompletableFuture<Void> delete(long id);
+
+    /**
+     * Delete all given entities by id in one batch.
+     *
+     * @param ids collection of the ids
+     * @return a {@link CompletableFuture} completing once all entities are deleted
+     */
+    CompletableFuture<Void> deleteAll(@NotNull Collection<Long> ids);
+
+    /**
+     * Returns whether an entity with the given id exists.
+     *
+     * @param id the id to check
+     * @return a {@link CompletableFuture} completing with {@code true} if the entity exists
+     */
+    CompletableFuture<Boolean> existsById(long id);
+
+    /**
+     * Passes all entities inside the repository to the given {@link Consumer} without materializing them as one
+     * collection. The consumer is called on the thread of the repository.
+     *
+     * @param consumer the {@link Consumer} to pass the entities to
+     * @return a {@link CompletableFuture} completing once all entities have been passed to the consumer
+     */
+    CompletableFuture<Void> findAll(@NotNull Consumer<? super T> consumer);
+
+    /**
+     * Retrieves an entity by id.
+     *
+     * @param id the id of the entity
+     * @return a {@link CompletableFuture} completing with the entity or an empty Optional if none found
+     */
+    CompletableFuture<Optional<T>> findById(long id);
+
+    /**
+     * Retrieves multiple entities by id in one batch. Ids without an entity are not contained in the result.
+     *
+     * @param ids the ids of the entities
+     * @return a {@link CompletableFuture} completing with a Map of the found entities
+     */
+    CompletableFuture<Map<Long, T>> findAllById(@NotNull Collection<Long> ids);
+
+    /**
+     * Saves a given entity.
+     *
+     * @param id     the id of the entity to save
+     * @param entity the entity to save
+     * @return a {@link CompletableFuture} completing once the entity is saved
+     */
+    CompletableFuture<Void> save(long id, @Nullable T entity);
+
+    /**
+     * Saves all given entities in one batch.
+     *
+     * @param entities a Map containing all entities to save
+     * @return a {@link CompletableFuture} completing once all entities are saved
+     */
+    CompletableFuture<Void> saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities);
+}
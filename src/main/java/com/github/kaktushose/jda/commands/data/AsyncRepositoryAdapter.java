@@ -0,0 +1,153 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link AsyncRepository} that runs all operations of a blocking {@link Repository} on a dedicated
+ * I/O executor. By default a single thread is used, thus all operations are executed in the order they were
+ * submitted and the wrapped repository doesn't need to be thread-safe.
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see AsyncRepository
+ * @since 2.3.0
+ */
+public class AsyncRepositoryAdapter<T> implements AsyncRepository<T>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncRepositoryAdapter.class);
+    private final Repository<T> repository;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    /**
+     * Constructs a new AsyncRepositoryAdapter running on its own single-threaded executor.
+     *
+     * @param repository the {@link Repository} to wrap
+     */
+    public AsyncRepositoryAdapter(@NotNull Repository<T> repository) {
+        this(repository, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AsyncRepository-IO");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Constructs a new AsyncRepositoryAdapter running on the given executor. The executor won't be shut down by
+     * {@link #close()}. If the executor uses more than one thread, the wrapped repository must be thread-safe.
+     *
+     * @param repository the {@link Repository} to wrap
+     * @param executor   the {@link ExecutorService} to run the operations on
+     */
+    public AsyncRepositoryAdapter(@NotNull Repository<T> repository, @NotNull ExecutorService executor) {
+        this(repository, executor, false);
+    }
+
+    private AsyncRepositoryAdapter(Repository<T> repository, ExecutorService executor, boolean ownsExecutor) {
+        this.repository = repository;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Gets the wrapped {@link Repository}.
+     *
+     * @return the wrapped {@link Repository}
+     */
+    public Repository<T> getRepository() {
+        return repository;
+    }
+
+    @Override
+    public CompletableFuture<Long> count() {
+        return CompletableFuture.supplyAsync(repository::count, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(long id) {
+        return CompletableFuture.runAsync(() -> repository.delete(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(@NotNull Collection<Long> ids) {
+        List<Long> copy = new ArrayList<>(ids);
+        return CompletableFuture.runAsync(() -> repository.deleteAll(copy), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(long id) {
+        return CompletableFuture.supplyAsync(() -> repository.existsById(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> findAll(@NotNull Consumer<? super T> consumer) {
+        return CompletableFuture.runAsync(() -> repository.findAll().forEach(consumer), executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> findById(long id) {
+        return CompletableFuture.supplyAsync(() -> repository.findById(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, T>> findAllById(@NotNull Collection<Long> ids) {
+        List<Long> copy = new ArrayList<>(ids);
+        return CompletableFuture.supplyAsync(() -> {
+            Map<Long, T> result = new HashMap<>();
+            for (long id : copy) {
+                repository.findById(id).ifPresent(entity -> result.put(id, entity));
+            }
+            return result;
+        }, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(long id, @Nullable T entity) {
+        return CompletableFuture.runAsync(() -> repository.save(id, entity), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities) {
+        Map<Long, T> copy = new HashMap<>(entities);
+        return CompletableFuture.runAsync(() -> repository.saveAll(copy), executor);
+    }
+
+    /**
+     * Waits for all submitted operations to complete and closes the wrapped repository if it is {@link Closeable}.
+     * The executor is only shut down if it was created by this adapter, otherwise the caller is responsible for
+     * completing pending operations first.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Pending repository operations didn't complete in time!");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (repository instanceof Closeable) {
+            try {
+                ((Closeable) repository).close();
+            } catch (IOException e) {
+                log.error("An error has occurred while closing the repository!", e);
+            }
+        }
+    }
+}
@@ -10,12 +10,18 @@ import java.util.stream.Collectors;
 /**
  * An {@link ArrayList} implementation to sort and structure a collection of {@link CommandDefinition}s.
  *
+ * <p>Lookups by label, name and category are backed by hash indexes. The indexes and the view returned by
+ * {@link #getSortedByCategories()} are built lazily on the first lookup and rebuilt after the list has been
+ * modified, thus repeated lookups on an unchanged list don't need to iterate the list.
+ *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0.0
  */
 public class CommandList extends ArrayList<CommandDefinition> {
 
+    private transient Index index;
+
     /**
      * Constructs an empty list.
      */
@@ -32,6 +38,19 @@ public class CommandList extends ArrayList<CommandDefinition> {
         addAll(collection);
     }
 
+    private Index index() {
+        Index current = index;
+        if (current == null || current.modCount != modCount) {
+            current = new Index(this, modCount);
+            index = current;
+        }
+        return current;
+    }
+
+    private static String fold(String value) {
+        return value.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Get a list of all {@link CommandDefinition}s having the same name as the one provided. If there are no commands with the given
      * name, an empty list gets returned.
@@ -40,7 +59,10 @@ public class CommandList extends ArrayList<CommandDefinition> {
      * @return a possibly-empty mutable list of all commands with the same name as provided
      */
     public List<CommandDefinition> getByName(@Nullable String name) {
-        return stream().filter(command -> command.getMetadata().getName().equalsIgnoreCase(name)).collect(Collectors.toList());
+        if (name == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(index().byName.getOrDefault(fold(name), Collections.emptyList()));
     }
 
     /**
@@ -51,7 +73,10 @@ public class CommandList extends ArrayList<CommandDefinition> {
      * @return a possibly-empty mutable list of all commands with the same category as provided
      */
     public List<CommandDefinition> getByCategory(@Nullable String category) {
-        return stream().filter(command -> command.getMetadata().getCategory().equalsIgnoreCase(category)).collect(Collectors.toList());
+        if (category == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(index().byCategory.getOrDefault(fold(category), Collections.emptyList()));
     }
 
     /**
@@ -63,34 +88,60 @@ public class CommandList extends ArrayList<CommandDefinition> {
      */
     @Nullable
     public CommandDefinition getByLabel(@Nullable String label) {
-        return stream().filter(command -> command.getLabels().contains(label)).findFirst().orElse(null);
+        return index().byLabel.get(label);
     }
 
     /**
      * Sorts all {@link CommandDefinition}s of this list using their category. All commands with the same category are
      * stored in the same list. All lists gets stored inside a {@code Map}. The name of the category
-     * is thereby the key.
+     * is thereby the key. The categories are iterated in alphabetical order and the commands of each category are
+     * sorted.
+     *
+     * <p>The returned {@code Map} is cached until this list gets modified and thus is unmodifiable.
      *
-     * @return a {@code Map} containing all commands sorted by their category
+     * @return an unmodifiable {@code Map} containing all commands sorted by their category
      * @see com.github.kaktushose.jda.commands.annotations.Command#category()
      */
     public Map<String, List<CommandDefinition>> getSortedByCategories() {
-        Map<String, List<CommandDefinition>> sortedByCategories = new HashMap<>();
-        forEach(command -> {
-            if (sortedByCategories.containsKey(command.getMetadata().getCategory())) {
-                sortedByCategories.get(command.getMetadata().getCategory()).add(command);
-            } else {
-                sortedByCategories.put(command.getMetadata().getCategory(), new ArrayList<CommandDefinition>() {{
-                    add(command);
-                }});
-            }
-        });
+        Index current = index();
+        if (current.sortedByCategories == null) {
+            Map<String, List<CommandDefinition>> sortedByCategories = new TreeMap<>();
+            forEach(command -> sortedByCategories.computeIfAbsent(command.getMetadata().getCategory(), key -> new ArrayList<>()).add(command));
+            sortedByCategories.replaceAll((category, commands) ->
+                    Collections.unmodifiableList(commands.stream().sorted().collect(Collectors.toList()))
+            );
+            current.sortedByCategories = Collections.unmodifiableMap(sortedByCategories);
+        }
+        return current.sortedByCategories;
+    }
+
+    @Override
+    public CommandDefinition set(int index, CommandDefinition element) {
+        // ArrayList doesn't count replacements as structural modification, but they change the indexes
+        modCount++;
+        return super.set(index, element);
+    }
+
+    private static class Index {
 
-        sortedByCategories.forEach((category, commands) -> {
-            List<CommandDefinition> sorted = commands.stream().sorted().collect(Collectors.toList());
-            sortedByCategories.put(category, sorted);
-        });
+        private final int modCount;
+        private final Map<String, CommandDefinition> byLabel;
+        private final Map<String, List<CommandDefinition>> byName;
+        private final Map<String, List<CommandDefinition>> byCategory;
+        private Map<String, List<CommandDefinition>> sortedByCategories;
 
-        return sortedByCategories;
+        private Index(List<CommandDefinition> commands, int modCount) {
+            this.modCount = modCount;
+            byLabel = new HashMap<>();
+            byName = new HashMap<>();
+            byCategory = new HashMap<>();
+            for (CommandDefinition command : commands) {
+                for (String label : command.getLabels()) {
+                    byLabel.putIfAbsent(label, command);
+                }
+                byName.computeIfAbsent(fold(command.getMetadata().getName()), key -> new ArrayList<>()).add(command);
+                byCategory.computeIfAbsent(fold(command.getMetadata().getCategory()), key -> new ArrayList<>()).add(command);
+            }
+        }
     }
 }
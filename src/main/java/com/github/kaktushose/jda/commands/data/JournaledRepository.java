@@ -0,0 +1,442 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An implementation of the {@link Repository} interface that stores data in an append-only journal.
+ *
+ * <p>Every modification appends one record per affected entry to the journal, thus the cost of a write is
+ * proportional to the change and not to the size of the dataset. Once the journal exceeds the compaction threshold,
+ * it gets rotated and a background thread compacts all values into a snapshot. The snapshot is written to a
+ * temporary file first and is then published by an atomic rename, so a crash never leaves a truncated snapshot
+ * behind. On startup the snapshot is loaded and the journals are replayed on top of it. An incomplete record at the
+ * end of a journal, which can only be the result of a crash, is skipped and cut off, so that new records start on a
+ * fresh line.
+ *
+ * <p>The repository uses the following files, all located next to each other:
+ * <ul>
+ *     <li>{@code <name>.snapshot.json} - the last compacted snapshot, in the same format as {@link JsonRepository}</li>
+ *     <li>{@code <name>.journal} - the current journal</li>
+ *     <li>{@code <name>.journal.old} - the rotated journal while a compaction is running</li>
+ * </ul>
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see JsonRepository
+ * @since 2.3.0
+ */
+public abstract class JournaledRepository<T> implements Repository<T>, Closeable, Flushable {
+
+    /**
+     * The default size in bytes the journal may grow to before it gets compacted.
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 4 * 1024 * 1024;
+    private static final Logger log = LoggerFactory.getLogger(JournaledRepository.class);
+    private static final String OPERATION = "op";
+    private static final String ID = "id";
+    private static final String VALUE = "value";
+    private static final String PUT = "put";
+    private static final String DELETE = "del";
+    private final Gson gson;
+    private final Type type;
+    private final Path snapshot;
+    private final Path journal;
+    private final Path rotatedJournal;
+    private final long compactionThreshold;
+    private final Object lock;
+    private final Object compactionLock;
+    private final AtomicBoolean compactionScheduled;
+    private final ExecutorService executor;
+    private FileOutputStream journalStream;
+    private OutputStream journalOut;
+    private long journalSize;
+    private boolean closed;
+    private final LongObjectMap<T> map;
+
+    /**
+     * Constructs a new JournaledRepository using the {@link #DEFAULT_COMPACTION_THRESHOLD}.
+     *
+     * @param directory the directory to store the files in
+     * @param name      the name of the files
+     * @param type      the {@link Type} the repository manages
+     */
+    public JournaledRepository(@NotNull File directory, @NotNull String name, @NotNull Type type) {
+        this(directory, name, type, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new JournaledRepository.
+     *
+     * @param directory           the directory to store the files in
+     * @param name                the name of the files
+     * @param type                the {@link Type} the repository manages
+     * @param compactionThreshold the size in bytes the journal may grow to before it gets compacted
+     */
+    public JournaledRepository(@NotNull File directory, @NotNull String name, @NotNull Type type, long compactionThreshold) {
+        this(directory, name, type, compactionThreshold,
+                new GsonBuilder().registerTypeAdapterFactory(new LongCollectionsTypeAdapterFactory()).create());
+    }
+
+    /**
+     * Constructs a new JournaledRepository. The values are read and written with the given {@link Gson} instance,
+     * thus registering a hand-written {@link TypeAdapter} for the managed type avoids reflection.
+     *
+     * @param directory           the directory to store the files in
+     * @param name                the name of the files
+     * @param type                the {@link Type} the repository manages
+     * @param compactionThreshold the size in bytes the journal may grow to before it gets compacted
+     * @param gson                the {@link Gson} instance to read and write the values with
+     */
+    public JournaledRepository(@NotNull File directory, @NotNull String name, @NotNull Type type, long compactionThreshold,
+                               @NotNull Gson gson) {
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive!");
+        }
+        this.type = type;
+        this.compactionThreshold = compactionThreshold;
+        this.gson = gson;
+        snapshot = directory.toPath().resolve(name + ".snapshot.json");
+        journal = directory.toPath().resolve(name + ".journal");
+        rotatedJournal = directory.toPath().resolve(name + ".journal.old");
+        lock = new Object();
+        compactionLock = new Object();
+        compactionScheduled = new AtomicBoolean();
+        map = new LongObjectMap<>();
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JournaledRepository-Compactor-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Files.createDirectories(directory.toPath());
+            recover();
+            openJournal();
+        } catch (IOException e) {
+            log.error("An error has occurred while opening the journal!", e);
+        }
+    }
+
+    /**
+     * Gets the size of the current journal in bytes.
+     *
+     * @return the size of the current journal in bytes
+     */
+    public long getJournalSize() {
+        synchronized (lock) {
+            return journalSize;
+        }
+    }
+
+    /**
+     * Writes all values to a new snapshot and truncates the journal. This is done on the calling thread and is
+     * usually not needed, because the journal gets compacted in the background once it exceeds the compaction
+     * threshold.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            LongObjectMap<T> copy;
+            synchronized (lock) {
+                compactionScheduled.set(false);
+                if (closed || journalSize == 0) {
+                    return;
+                }
+                try {
+                    rotateJournal();
+                } catch (IOException e) {
+                    log.error("An error has occurred while rotating the journal!", e);
+                    return;
+                }
+                copy = new LongObjectMap<>(map);
+            }
+            try {
+                writeSnapshot(copy);
+                Files.deleteIfExists(rotatedJournal);
+                log.debug("Compacted {} values into a new snapshot", copy.size());
+            } catch (IOException e) {
+                // the rotated journal is kept, so the next recovery still sees all changes
+                log.error("An error has occurred while writing the snapshot!", e);
+            }
+        }
+    }
+
+    /**
+     * Forces all journal records to the disk.
+     */
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            try {
+                journalOut.flush();
+                journalStream.getFD().sync();
+            } catch (IOException e) {
+                log.error("An error has occurred while syncing the journal!", e);
+            }
+        }
+    }
+
+    /**
+     * Stops the background compaction and durably closes the journal. Afterwards the repository must no longer be
+     * modified.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Compactor didn't terminate in time!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                journalOut.close();
+            } catch (IOException e) {
+                log.error("An error has occurred while closing the journal!", e);
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        if (Files.exists(snapshot)) {
+            try (JsonReader reader = new JsonReader(Files.newBufferedReader(snapshot, StandardCharsets.UTF_8))) {
+                if (reader.peek() != JsonToken.END_DOCUMENT) {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        long id = Long.parseLong(reader.nextName());
+                        map.put(id, gson.fromJson(reader, type));
+                    }
+                    reader.endObject();
+                }
+            }
+        }
+        int replayed = replay(rotatedJournal) + replay(journal);
+        log.debug("Recovered {} values, replayed {} journal records", map.size(), replayed);
+    }
+
+    private int replay(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int count = 0;
+        long offset = 0;
+        long validLength = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            int next;
+            while ((next = in.read()) != -1) {
+                offset++;
+                if (next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                String text = new String(line.toByteArray(), StandardCharsets.UTF_8);
+                line.reset();
+                if (text.isEmpty()) {
+                    continue;
+                }
+                JsonObject record;
+                try {
+                    record = JsonParser.parseString(text).getAsJsonObject();
+                } catch (JsonParseException | IllegalStateException e) {
+                    log.warn("Skipping incomplete journal record in {}", path);
+                    continue;
+                }
+                long id = record.get(ID).getAsLong();
+                if (DELETE.equals(record.get(OPERATION).getAsString())) {
+                    map.remove(id);
+                } else {
+                    map.put(id, gson.fromJson(record.get(VALUE), type));
+                }
+                count++;
+                validLength = offset;
+            }
+        }
+        if (validLength < offset) {
+            // cut off the incomplete tail, otherwise the next record would be appended to the same line
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+            log.warn("Truncated {} bytes of incomplete journal records in {}", offset - validLength, path);
+        }
+        return count;
+    }
+
+    private void openJournal() throws IOException {
+        journalStream = new FileOutputStream(journal.toFile(), true);
+        journalOut = new BufferedOutputStream(journalStream);
+        journalSize = Files.size(journal);
+    }
+
+    private void rotateJournal() throws IOException {
+        journalOut.flush();
+        journalStream.getFD().sync();
+        journalOut.close();
+        if (Files.exists(rotatedJournal)) {
+            // a previous compaction failed, keep its records in front of the current ones
+            try (OutputStream out = new FileOutputStream(rotatedJournal.toFile(), true)) {
+                Files.copy(journal, out);
+            }
+            Files.delete(journal);
+        } else {
+            Files.move(journal, rotatedJournal, StandardCopyOption.ATOMIC_MOVE);
+        }
+        openJournal();
+    }
+
+    private void writeSnapshot(LongObjectMap<T> values) throws IOException {
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temp.toFile());
+             JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)))) {
+            writer.beginObject();
+            for (long id : values.keys()) {
+                writer.name(String.valueOf(id));
+                gson.toJson(values.get(id), type, writer);
+            }
+            writer.endObject();
+            writer.flush();
+            stream.getFD().sync();
+        }
+        Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void append(List<JsonObject> records) {
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Repository is already closed!");
+            }
+            try {
+                for (JsonObject record : records) {
+                    byte[] line = (gson.toJson(record) + '\n').getBytes(StandardCharsets.UTF_8);
+                    journalOut.write(line);
+                    journalSize += line.length;
+                }
+                journalOut.flush();
+            } catch (IOException e) {
+                log.error("An error has occurred while appending to the journal!", e);
+            }
+            if (journalSize >= compactionThreshold && compactionScheduled.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    try {
+                        compact();
+                    } catch (Exception e) {
+                        log.error("An error has occurred while compacting the journal!", e);
+                    }
+                });
+            }
+        }
+    }
+
+    private JsonObject putRecord(long id, @Nullable T entity) {
+        JsonObject record = new JsonObject();
+        record.addProperty(OPERATION, PUT);
+        record.addProperty(ID, id);
+        record.add(VALUE, gson.toJsonTree(entity, type));
+        return record;
+    }
+
+    private JsonObject deleteRecord(long id) {
+        JsonObject record = new JsonObject();
+        record.addProperty(OPERATION, DELETE);
+        record.addProperty(ID, id);
+        return record;
+    }
+
+    @Override
+    public long count() {
+        synchronized (lock) {
+            return map.size();
+        }
+    }
+
+    @Override
+    public void delete(long id) {
+        synchronized (lock) {
+            map.remove(id);
+            append(Collections.singletonList(deleteRecord(id)));
+        }
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<Long> ids) {
+        List<JsonObject> records = new ArrayList<>(ids.size());
+        ids.forEach(id -> records.add(deleteRecord(id)));
+        synchronized (lock) {
+            ids.forEach(map::remove);
+            append(records);
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        synchronized (lock) {
+            return map.containsKey(id);
+        }
+    }
+
+    /**
+     * Returns a copy of all values, thus the returned collection isn't affected by later modifications.
+     *
+     * @return a copy of all values
+     */
+    @Override
+    public Collection<T> findAll() {
+        synchronized (lock) {
+            return new ArrayList<>(map.values());
+        }
+    }
+
+    @Override
+    public Optional<T> findById(long id) {
+        synchronized (lock) {
+            return Optional.ofNullable(map.get(id));
+        }
+    }
+
+    @Override
+    public void save(long id, @Nullable T entity) {
+        JsonObject record = putRecord(id, entity);
+        synchronized (lock) {
+            map.put(id, entity);
+            append(Collections.singletonList(record));
+        }
+    }
+
+    @Override
+    public void saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities) {
+        List<JsonObject> records = new ArrayList<>(entities.size());
+        entities.forEach((id, entity) -> records.add(putRecord(id, entity)));
+        synchronized (lock) {
+            map.putAll(entities);
+            append(records);
+        }
+    }
+}
@@ -1,36 +1,62 @@
 package com.github.kaktushose.jda.commands.data;
 
 import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.*;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An implementation of the {@link Repository} interface that stores data as json.
  *
+ * <p>By default, every modification rewrites the whole file on the calling thread. Call
+ * {@link #enableWriteBehind(long, TimeUnit, int)} to switch to write-behind mode. In this mode modifications only
+ * mark the affected entries as dirty. The dirty entries are then coalesced and written to the file by a background
+ * thread, either periodically or as soon as the amount of dirty entries reaches a threshold. Call {@link #close()} on
+ * shutdown to make sure that all pending changes are written to the disk.
+ *
+ * <p>Since 2.3.0 the values are no longer exposed to subclasses as a protected {@code map} field, because reading it
+ * without the lock of the repository races with concurrent modifications. {@link #findById(long)} and
+ * {@link #findAll()} are implemented by this class, subclasses that need all values mapped by their id can use
+ * {@link #getValues()} instead.
+ *
  * @param <T> the type the repository manages
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
-public abstract class JsonRepository<T> implements Repository<T> {
+public abstract class JsonRepository<T> implements Repository<T>, Closeable, Flushable {
 
     private static final Logger log = LoggerFactory.getLogger(JsonRepository.class);
-    private final Gson gson;
     private final File file;
-    private final Type mapType;
-    protected Map<Long, T> map;
+    private final TypeAdapter<T> adapter;
+    private final Object lock;
+    private final Object flushLock;
+    private final LongSet dirtyIds;
+    private final AtomicBoolean flushScheduled;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> flushTask;
+    private boolean ownsExecutor;
+    private int flushThreshold;
+    private LongObjectMap<T> map;
 
     /**
      * Constructs a new JsonRepository.
@@ -49,10 +75,30 @@ public abstract class JsonRepository<T> implements Repository<T> {
      * @param mapType the {@link Type} of a {@link Map} containing the key (Long) and the Type the repository manages
      */
     public JsonRepository(@NotNull File file, @NotNull Type mapType) {
+        this(file, mapType, new Gson());
+    }
+
+    /**
+     * Constructs a new JsonRepository. The values are read and written with the {@link TypeAdapter} the given
+     * {@link Gson} instance provides for the managed type, thus registering a hand-written adapter avoids reflection.
+     *
+     * @param file    the file to save the json in
+     * @param mapType the {@link Type} of a {@link Map} containing the key (Long) and the Type the repository manages
+     * @param gson    the {@link Gson} instance to obtain the {@link TypeAdapter} from
+     */
+    @SuppressWarnings("unchecked")
+    public JsonRepository(@NotNull File file, @NotNull Type mapType, @NotNull Gson gson) {
+        if (!(mapType instanceof ParameterizedType)) {
+            throw new IllegalArgumentException("Map type must be parameterized!");
+        }
         this.file = file;
-        this.mapType = mapType;
-        gson = new Gson();
-        map = new HashMap<>();
+        Type valueType = ((ParameterizedType) mapType).getActualTypeArguments()[1];
+        adapter = (TypeAdapter<T>) gson.getAdapter(TypeToken.get(valueType));
+        lock = new Object();
+        flushLock = new Object();
+        dirtyIds = new LongSet();
+        flushScheduled = new AtomicBoolean();
+        map = new LongObjectMap<>();
         if (!file.exists()) {
             try {
                 file.createNewFile();
@@ -66,19 +112,257 @@ public abstract class JsonRepository<T> implements Repository<T> {
         load();
     }
 
+    /**
+     * Enables the write-behind mode. Afterwards, modifications will no longer be written to the file immediately.
+     * Instead, a background thread will flush all dirty entries in the given interval or as soon as the amount of
+     * dirty entries reaches the given threshold.
+     *
+     * @param interval  the interval between two flushes
+     * @param unit      the {@link TimeUnit} of the interval
+     * @param threshold the amount of dirty entries that triggers a flush regardless of the interval
+     * @throws IllegalStateException if the write-behind mode is already enabled
+     */
+    public void enableWriteBehind(long interval, @NotNull TimeUnit unit, int threshold) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JsonRepository-Flusher-" + file.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        enableWriteBehind(executor, true, interval, interval, unit, threshold);
+    }
+
+    /**
+     * Enables the write-behind mode using the given executor for flushing. The executor won't be shut down by
+     * {@link #close()}, thus it can be shared by multiple repositories. Use the initial delay to spread the flushes
+     * of these repositories over time.
+     *
+     * @param executor     the {@link ScheduledExecutorService} to flush on
+     * @param initialDelay the delay before the first flush
+     * @param interval     the interval between two flushes
+     * @param unit         the {@link TimeUnit} of the delay and the interval
+     * @param threshold    the amount of dirty entries that triggers a flush regardless of the interval
+     * @throws IllegalStateException if the write-behind mode is already enabled
+     */
+    public void enableWriteBehind(@NotNull ScheduledExecutorService executor, long initialDelay, long interval,
+                                  @NotNull TimeUnit unit, int threshold) {
+        enableWriteBehind(executor, false, initialDelay, interval, unit, threshold);
+    }
+
+    private void enableWriteBehind(ScheduledExecutorService executor, boolean ownsExecutor, long initialDelay,
+                                   long interval, TimeUnit unit, int threshold) {
+        if (interval < 1 || threshold < 1) {
+            if (ownsExecutor) {
+                executor.shutdown();
+            }
+            throw new IllegalArgumentException("Interval and threshold must be positive!");
+        }
+        synchronized (lock) {
+            if (this.executor != null) {
+                if (ownsExecutor) {
+                    executor.shutdown();
+                }
+                throw new IllegalStateException("Write-behind mode is already enabled!");
+            }
+            flushThreshold = threshold;
+            this.executor = executor;
+            this.ownsExecutor = ownsExecutor;
+            flushTask = executor.scheduleWithFixedDelay(this::flushQuietly, initialDelay, interval, unit);
+        }
+        log.debug("Enabled write-behind mode with an interval of {} {} and a threshold of {}", interval, unit, threshold);
+    }
+
+    /**
+     * Whether the write-behind mode is enabled.
+     *
+     * @return {@code true} if the write-behind mode is enabled
+     */
+    public boolean isWriteBehind() {
+        synchronized (lock) {
+            return executor != null;
+        }
+    }
+
+    /**
+     * Gets the amount of entries that have been modified but not been written to the file yet. This is always
+     * {@code 0} if the write-behind mode is disabled.
+     *
+     * @return the amount of dirty entries
+     */
+    public int getDirtyCount() {
+        synchronized (lock) {
+            return dirtyIds.size();
+        }
+    }
+
+    /**
+     * Loads all values from the file. The values are read one by one, thus the whole json document doesn't need to be
+     * held in memory.
+     */
     protected void load() {
-        try (JsonReader reader = new JsonReader(new FileReader(file))) {
-            map = gson.fromJson(reader, mapType);
-            log.debug("Loaded values from file");
-        } catch (IOException e) {
+        try {
+            LongObjectMap<T> loaded = read();
+            synchronized (lock) {
+                map = loaded;
+                dirtyIds.clear();
+            }
+            log.debug("Loaded {} values from file", loaded.size());
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
             e.printStackTrace();
             log.error("An error has occurred while loading values!", e);
         }
     }
 
+    /**
+     * Reloads the values from the file, e.g. after it was modified from outside. Only the values that differ from
+     * the values in memory are replaced. Values with pending modifications in write-behind mode are kept, because
+     * they will overwrite the file with the next flush anyway.
+     *
+     * @return the ids of all values that were added, changed or removed
+     */
+    public LongSet reload() {
+        LongObjectMap<T> loaded;
+        try {
+            loaded = read();
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            log.error("An error has occurred while reloading values!", e);
+            return new LongSet();
+        }
+        LongSet changed = new LongSet();
+        synchronized (lock) {
+            for (long id : loaded.keys()) {
+                if (dirtyIds.contains(id)) {
+                    continue;
+                }
+                T value = loaded.get(id);
+                if (!map.containsKey(id) || !adapter.toJsonTree(map.get(id)).equals(adapter.toJsonTree(value))) {
+                    map.put(id, value);
+                    changed.add(id);
+                }
+            }
+            for (long id : map.keys()) {
+                if (!loaded.containsKey(id) && !dirtyIds.contains(id)) {
+                    map.remove(id);
+                    changed.add(id);
+                }
+            }
+        }
+        log.debug("Reloaded values from file, {} changed", changed.size());
+        return changed;
+    }
+
+    private LongObjectMap<T> read() throws IOException {
+        try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)))) {
+            LongObjectMap<T> loaded = new LongObjectMap<>();
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    long id = Long.parseLong(reader.nextName());
+                    loaded.put(id, adapter.read(reader));
+                }
+                reader.endObject();
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Gets the file the values are stored in.
+     *
+     * @return the file the values are stored in
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Writes all values to the file on the calling thread, regardless of the write-behind mode.
+     */
     protected void save() {
-        try (FileWriter writer = new FileWriter(file)) {
-            gson.toJson(map, writer);
+        // hold the flush lock from copying until writing, so an older copy never overwrites a newer one
+        synchronized (flushLock) {
+            LongObjectMap<T> copy;
+            synchronized (lock) {
+                copy = new LongObjectMap<>(map);
+                dirtyIds.clear();
+            }
+            write(copy);
+        }
+    }
+
+    /**
+     * Writes all dirty entries to the file. Does nothing if there are no dirty entries.
+     */
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            LongObjectMap<T> copy;
+            synchronized (lock) {
+                flushScheduled.set(false);
+                if (dirtyIds.isEmpty()) {
+                    return;
+                }
+                log.debug("Flushing {} dirty entries", dirtyIds.size());
+                copy = new LongObjectMap<>(map);
+                dirtyIds.clear();
+            }
+            write(copy);
+        }
+    }
+
+    /**
+     * Stops the background thread and durably writes all pending changes to the file. This should be called on
+     * shutdown if the write-behind mode is enabled.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService current;
+        boolean owned;
+        synchronized (lock) {
+            current = executor;
+            owned = ownsExecutor;
+            executor = null;
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        }
+        if (current != null && owned) {
+            current.shutdown();
+            try {
+                if (!current.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Flusher didn't terminate in time!");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("An error has occurred while flushing values!", e);
+        }
+    }
+
+    private void write(LongObjectMap<T> values) {
+        // write to a temporary file first, so a crash never leaves a truncated file behind
+        File temp = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        try {
+            try (FileOutputStream stream = new FileOutputStream(temp);
+                 JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)))) {
+                writer.beginObject();
+                for (long id : values.keys()) {
+                    writer.name(String.valueOf(id));
+                    adapter.write(writer, values.get(id));
+                }
+                writer.endObject();
+                writer.flush();
+                stream.getFD().sync();
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
             log.debug("Saved values to file");
         } catch (IOException e) {
             e.printStackTrace();
@@ -86,35 +370,92 @@ public abstract class JsonRepository<T> implements Repository<T> {
         }
     }
 
+    private void persist(Collection<Long> ids) {
+        synchronized (lock) {
+            if (executor != null) {
+                dirtyIds.addAll(ids);
+                if (dirtyIds.size() >= flushThreshold && flushScheduled.compareAndSet(false, true)) {
+                    executor.execute(this::flushQuietly);
+                }
+                return;
+            }
+        }
+        save();
+    }
+
     @Override
     public long count() {
-        return map.size();
+        synchronized (lock) {
+            return map.size();
+        }
     }
 
     @Override
     public void delete(long id) {
-        map.remove(id);
-        save();
+        synchronized (lock) {
+            map.remove(id);
+        }
+        persist(Collections.singleton(id));
     }
 
     @Override
     public void deleteAll(@NotNull Collection<Long> ids) {
-        ids.forEach(this::delete);
+        synchronized (lock) {
+            ids.forEach(map::remove);
+        }
+        persist(ids);
     }
 
     @Override
     public boolean existsById(long id) {
-        return map.containsKey(id);
+        synchronized (lock) {
+            return map.containsKey(id);
+        }
+    }
+
+    /**
+     * Returns a copy of all values, thus the returned collection isn't affected by later modifications.
+     *
+     * @return a copy of all values
+     */
+    @Override
+    public Collection<T> findAll() {
+        synchronized (lock) {
+            return new ArrayList<>(map.values());
+        }
+    }
+
+    /**
+     * Gets a copy of all values mapped by their id.
+     *
+     * @return a copy of all values mapped by their id
+     */
+    protected Map<Long, T> getValues() {
+        synchronized (lock) {
+            return new HashMap<>(map);
+        }
+    }
+
+    @Override
+    public Optional<T> findById(long id) {
+        synchronized (lock) {
+            return Optional.ofNullable(map.get(id));
+        }
     }
 
     @Override
     public void save(long id, @Nullable T entity) {
-        map.put(id, entity);
-        save();
+        synchronized (lock) {
+            map.put(id, entity);
+        }
+        persist(Collections.singleton(id));
     }
 
     @Override
-    public void saveAll(@NotNull Map<@Nullable Long, @Nullable T> entities) {
-        entities.forEach(this::save);
+    public void saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities) {
+        synchronized (lock) {
+            map.putAll(entities);
+        }
+        persist(entities.keySet());
     }
 }
@@ -0,0 +1,108 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * {@link TypeAdapterFactory} for {@link LongObjectMap} and {@link LongSet}. Produces the same json as Gson's default
+ * adapters for {@code Map<Long, V>} and {@code Set<Long>}, thus the json format stays compatible, but reads and
+ * writes the primitive keys without boxing them.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see LongObjectMap
+ * @see LongSet
+ * @since 2.3.0
+ */
+public class LongCollectionsTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class<? super T> rawType = typeToken.getRawType();
+        if (rawType == LongSet.class) {
+            return (TypeAdapter<T>) new LongSetAdapter().nullSafe();
+        }
+        if (rawType == LongObjectMap.class) {
+            Type type = typeToken.getType();
+            Type valueType = type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments()[0] : Object.class;
+            return (TypeAdapter<T>) new LongObjectMapAdapter<>(gson.getAdapter(TypeToken.get(valueType))).nullSafe();
+        }
+        return null;
+    }
+
+    private static class LongSetAdapter extends TypeAdapter<LongSet> {
+
+        @Override
+        public void write(JsonWriter out, LongSet set) throws IOException {
+            out.beginArray();
+            for (long value : set.toLongArray()) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public LongSet read(JsonReader in) throws IOException {
+            LongSet set = new LongSet();
+            in.beginArray();
+            while (in.hasNext()) {
+                set.add(in.nextLong());
+            }
+            in.endArray();
+            return set;
+        }
+    }
+
+    private static class LongObjectMapAdapter<V> extends TypeAdapter<LongObjectMap<V>> {
+
+        private final TypeAdapter<V> valueAdapter;
+
+        private LongObjectMapAdapter(TypeAdapter<V> valueAdapter) {
+            this.valueAdapter = valueAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, LongObjectMap<V> map) throws IOException {
+            out.beginObject();
+            for (long key : map.keys()) {
+                out.name(String.valueOf(key));
+                valueAdapter.write(out, map.get(key));
+            }
+            out.endObject();
+        }
+
+        @Override
+        public LongObjectMap<V> read(JsonReader in) throws IOException {
+            LongObjectMap<V> map = new LongObjectMap<>();
+            if (in.peek() == JsonToken.BEGIN_ARRAY) {
+                // Gson writes maps with complex keys as arrays of key-value pairs
+                in.beginArray();
+                while (in.hasNext()) {
+                    in.beginArray();
+                    long key = in.nextLong();
+                    map.put(key, valueAdapter.read(in));
+                    in.endArray();
+                }
+                in.endArray();
+                return map;
+            }
+            in.beginObject();
+            while (in.hasNext()) {
+                map.put(Long.parseLong(in.nextName()), valueAdapter.read(in));
+            }
+            in.endObject();
+            return map;
+        }
+    }
+}
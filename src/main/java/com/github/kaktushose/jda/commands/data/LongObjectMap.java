@@ -0,0 +1,418 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A {@link Map} implementation with primitive {@code long} keys. The keys are stored in a {@code long[]} using open
+ * addressing with linear probing, thus no {@link Long} objects and no entry objects are created per mapping. Use the
+ * primitive overloads, e.g. {@link #get(long)} or {@link #put(long, Object)}, to avoid boxing entirely. The
+ * {@link Map} methods are supported for compatibility but box the keys.
+ *
+ * <p>The iterators of the views support removal. {@code null} keys aren't supported. This class isn't thread-safe.
+ *
+ * @param <V> the type of mapped values
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see LongSet
+ * @since 2.3.0
+ */
+public class LongObjectMap<V> extends AbstractMap<Long, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long EMPTY = 0;
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    // the key 0 marks empty slots, thus its mapping is stored separately
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    /**
+     * Constructs a new empty LongObjectMap.
+     */
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty LongObjectMap that can hold the given amount of mappings without resizing.
+     *
+     * @param expectedSize the expected amount of mappings
+     */
+    public LongObjectMap(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    /**
+     * Constructs a new LongObjectMap containing the mappings of the given {@link Map}.
+     *
+     * @param map the {@link Map} to copy the mappings from
+     */
+    @SuppressWarnings("unchecked")
+    public LongObjectMap(@NotNull Map<Long, ? extends V> map) {
+        if (map instanceof LongObjectMap) {
+            LongObjectMap<? extends V> other = (LongObjectMap<? extends V>) map;
+            keys = other.keys.clone();
+            values = other.values.clone();
+            mask = other.mask;
+            size = other.size;
+            hasZeroKey = other.hasZeroKey;
+            zeroValue = other.zeroValue;
+            return;
+        }
+        allocate(tableSize(map.size()));
+        putAll(map);
+    }
+
+    static int tableSize(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int indexOf(long key) {
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                return -1;
+            }
+            if (current == key) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map contains no mapping for
+     * the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY) {
+            return zeroValue;
+        }
+        int slot = indexOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key the key whose presence is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     */
+    public boolean containsKey(long key) {
+        return key == EMPTY ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates the specified value with the specified key.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with the key, or {@code null} if there was no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, @Nullable V value) {
+        if (key == EMPTY) {
+            V previous = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size * 4L > keys.length * 3L) {
+                    resize();
+                }
+                return null;
+            }
+            if (current == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for the specified key if present.
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value associated with the key, or {@code null} if there was no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == EMPTY) {
+            V previous = zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        removeAt(slot, null);
+        return previous;
+    }
+
+    private void removeAt(int slot, @Nullable EntryIterator iterator) {
+        // shift following entries back, so lookups don't stop at the freed slot
+        int free = slot;
+        for (int next = (free + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                if (iterator != null && next < free) {
+                    // the entry wraps around the end of the table into the part the iterator has already visited
+                    iterator.addWrapped(keys[next]);
+                }
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        keys[free] = EMPTY;
+        values[free] = null;
+        size--;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = slot(key, mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns all keys of this map as a primitive array.
+     *
+     * @return all keys of this map
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        if (hasZeroKey) {
+            result[i++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        return key instanceof Long ? get((long) (Long) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long && containsKey((long) (Long) key);
+    }
+
+    @Override
+    public V put(Long key, V value) {
+        return put((long) Objects.requireNonNull(key, "LongObjectMap doesn't support null keys!"), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return key instanceof Long ? remove((long) (Long) key) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<Long, V>> entrySet() {
+        return new AbstractSet<Entry<Long, V>>() {
+            @Override
+            public Iterator<Entry<Long, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                EntryIterator iterator = new EntryIterator();
+                return new Iterator<V>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public V next() {
+                        return iterator.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates over the table from the last to the first slot. Removing an entry only shifts entries of higher slots
+     * back into already visited slots, except for entries that wrap around the end of the table. These are collected
+     * and returned after the table has been iterated.
+     */
+    private class EntryIterator implements Iterator<Entry<Long, V>> {
+
+        private static final int NONE = 0;
+        private static final int ZERO = 1;
+        private static final int TABLE = 2;
+        private static final int WRAPPED = 3;
+        private boolean zeroPending = hasZeroKey;
+        private int position = keys.length;
+        private int cursor = -2;
+        private List<Long> wrapped;
+        private int wrappedIndex;
+        private int lastReturned = NONE;
+        private long lastKey;
+
+        private int nextSlot() {
+            if (cursor == -2) {
+                int slot = position - 1;
+                while (slot >= 0 && keys[slot] == EMPTY) {
+                    slot--;
+                }
+                cursor = slot;
+            }
+            return cursor;
+        }
+
+        private void addWrapped(long key) {
+            if (wrapped == null) {
+                wrapped = new ArrayList<>(2);
+            }
+            wrapped.add(key);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return zeroPending || nextSlot() >= 0 || (wrapped != null && wrappedIndex < wrapped.size());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<Long, V> next() {
+            if (zeroPending) {
+                zeroPending = false;
+                lastReturned = ZERO;
+                return new SimpleImmutableEntry<>(EMPTY, zeroValue);
+            }
+            int slot = nextSlot();
+            if (slot >= 0) {
+                position = slot;
+                cursor = -2;
+                lastReturned = TABLE;
+                lastKey = keys[slot];
+                return new SimpleImmutableEntry<>(lastKey, (V) values[slot]);
+            }
+            if (wrapped != null && wrappedIndex < wrapped.size()) {
+                lastReturned = WRAPPED;
+                lastKey = wrapped.get(wrappedIndex++);
+                return new SimpleImmutableEntry<>(lastKey, get(lastKey));
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            switch (lastReturned) {
+                case ZERO:
+                    LongObjectMap.this.remove(EMPTY);
+                    break;
+                case TABLE:
+                    removeAt(position, this);
+                    break;
+                case WRAPPED:
+                    LongObjectMap.this.remove(lastKey);
+                    break;
+                default:
+                    throw new IllegalStateException();
+            }
+            lastReturned = NONE;
+            cursor = -2;
+        }
+    }
+}
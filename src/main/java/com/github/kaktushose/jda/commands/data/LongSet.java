@@ -0,0 +1,275 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * A {@link Set} implementation for primitive {@code long} values. The values are stored in a {@code long[]} using
+ * open addressing with linear probing, thus no {@link Long} objects are created per element. Use the primitive
+ * overloads, e.g. {@link #contains(long)} or {@link #add(long)}, to avoid boxing entirely.
+ *
+ * <p>Iterators don't support removal. This class isn't thread-safe.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see LongObjectMap
+ * @since 2.3.0
+ */
+public class LongSet extends AbstractSet<Long> {
+
+    private static final long EMPTY = 0;
+    private long[] elements;
+    private int mask;
+    private int size;
+    // the value 0 marks empty slots, thus it is tracked separately
+    private boolean hasZero;
+
+    /**
+     * Constructs a new empty LongSet.
+     */
+    public LongSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new empty LongSet that can hold the given amount of elements without resizing.
+     *
+     * @param expectedSize the expected amount of elements
+     */
+    public LongSet(int expectedSize) {
+        allocate(LongObjectMap.tableSize(expectedSize));
+    }
+
+    /**
+     * Constructs a new LongSet containing the elements of the given {@link Collection}.
+     *
+     * @param collection the {@link Collection} to copy the elements from
+     */
+    public LongSet(@NotNull Collection<Long> collection) {
+        if (collection instanceof LongSet) {
+            LongSet other = (LongSet) collection;
+            elements = other.elements.clone();
+            mask = other.mask;
+            size = other.size;
+            hasZero = other.hasZero;
+            return;
+        }
+        allocate(LongObjectMap.tableSize(collection.size()));
+        for (long value : collection) {
+            add(value);
+        }
+    }
+
+    private void allocate(int capacity) {
+        elements = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns {@code true} if this set contains the specified value.
+     *
+     * @param value the value whose presence is to be tested
+     * @return {@code true} if this set contains the specified value
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return hasZero;
+        }
+        for (int slot = LongObjectMap.slot(value, mask); ; slot = (slot + 1) & mask) {
+            long current = elements[slot];
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == value) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds the specified value to this set if it is not already present.
+     *
+     * @param value the value to add
+     * @return {@code true} if this set did not already contain the value
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        for (int slot = LongObjectMap.slot(value, mask); ; slot = (slot + 1) & mask) {
+            long current = elements[slot];
+            if (current == EMPTY) {
+                elements[slot] = value;
+                if (++size * 4L > elements.length * 3L) {
+                    resize();
+                }
+                return true;
+            }
+            if (current == value) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes the specified value from this set if it is present.
+     *
+     * @param value the value to remove
+     * @return {@code true} if this set contained the value
+     */
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int slot = LongObjectMap.slot(value, mask);
+        while (elements[slot] != value) {
+            if (elements[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // shift following elements back, so lookups don't stop at the freed slot
+        int free = slot;
+        for (int next = (free + 1) & mask; elements[next] != EMPTY; next = (next + 1) & mask) {
+            int home = LongObjectMap.slot(elements[next], mask);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                elements[free] = elements[next];
+                free = next;
+            }
+        }
+        elements[free] = EMPTY;
+        size--;
+        return true;
+    }
+
+    private void resize() {
+        long[] old = elements;
+        allocate(elements.length * 2);
+        for (long value : old) {
+            if (value != EMPTY) {
+                int slot = LongObjectMap.slot(value, mask);
+                while (elements[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                elements[slot] = value;
+            }
+        }
+    }
+
+    /**
+     * Returns all values of this set as a primitive array.
+     *
+     * @return all values of this set
+     */
+    public long[] toLongArray() {
+        long[] result = new long[size];
+        int i = 0;
+        if (hasZero) {
+            result[i++] = EMPTY;
+        }
+        for (long value : elements) {
+            if (value != EMPTY) {
+                result[i++] = value;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && contains((long) (Long) o);
+    }
+
+    @Override
+    public boolean add(Long value) {
+        return add((long) value);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Long && remove((long) (Long) o);
+    }
+
+    @Override
+    public boolean removeAll(@NotNull Collection<?> collection) {
+        boolean changed = false;
+        for (Object o : collection) {
+            changed |= remove(o);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(@NotNull Collection<?> collection) {
+        boolean changed = false;
+        for (long value : toLongArray()) {
+            if (!collection.contains(value)) {
+                changed |= remove(value);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, EMPTY);
+        hasZero = false;
+        size = 0;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<Long>() {
+            private boolean zeroPending = hasZero;
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < elements.length && elements[from] == EMPTY) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return zeroPending || next < elements.length;
+            }
+
+            @Override
+            public Long next() {
+                if (zeroPending) {
+                    zeroPending = false;
+                    return EMPTY;
+                }
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                long value = elements[next];
+                next = advance(next + 1);
+                return value;
+            }
+        };
+    }
+}
@@ -0,0 +1,546 @@
+package com.github.kaktushose.jda.commands.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An implementation of the {@link Repository} interface that stores data in a memory-mapped file.
+ *
+ * <p>The values are kept as serialized records in an append-only log that is mapped into memory. The position of the
+ * latest record of each id is kept in an off-heap hash index, thus the repository only needs a constant amount of
+ * heap, independent of the size of the dataset. Values are only deserialized when they get accessed, either by
+ * {@link #findById(long)} or while iterating over {@link #findAll()} or {@link #stream()}.
+ *
+ * <p>Updates and deletions append a new record, which makes the previous record of the id obsolete. Call
+ * {@link #compact()} to rewrite the file without obsolete records.
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see JsonRepository
+ * @since 2.3.0
+ */
+public abstract class MappedRepository<T> implements Repository<T>, Closeable, Flushable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedRepository.class);
+    private static final int MAGIC = 0x4A444143;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int TOMBSTONE = -1;
+    private static final int INITIAL_SIZE = 1024 * 1024;
+    private final Gson gson;
+    private final Type type;
+    private final Path path;
+    private final ReadWriteLock lock;
+    private final OffHeapIndex index;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long garbage;
+
+    /**
+     * Constructs a new MappedRepository.
+     *
+     * @param file the file to store the records in
+     * @param type the {@link Type} the repository manages
+     */
+    public MappedRepository(@NotNull File file, @NotNull Type type) {
+        this(file, type, new GsonBuilder().registerTypeAdapterFactory(new LongCollectionsTypeAdapterFactory()).create());
+    }
+
+    /**
+     * Constructs a new MappedRepository. The values are read and written with the given {@link Gson} instance, thus
+     * registering a hand-written {@link com.google.gson.TypeAdapter TypeAdapter} for the managed type avoids
+     * reflection.
+     *
+     * @param file the file to store the records in
+     * @param type the {@link Type} the repository manages
+     * @param gson the {@link Gson} instance to read and write the values with
+     */
+    public MappedRepository(@NotNull File file, @NotNull Type type, @NotNull Gson gson) {
+        this.path = file.toPath();
+        this.type = type;
+        this.gson = gson;
+        lock = new ReentrantReadWriteLock();
+        index = new OffHeapIndex(1024);
+        try {
+            open();
+        } catch (IOException e) {
+            log.error("An error has occurred while opening the file!", e);
+        }
+    }
+
+    /**
+     * Gets the amount of bytes that are occupied by obsolete records.
+     *
+     * @return the amount of bytes that are occupied by obsolete records
+     */
+    public long getGarbageSize() {
+        lock.readLock().lock();
+        try {
+            return garbage;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a lazy {@link Stream} over all values. Each value is deserialized when the stream reaches it, values that
+     * have been deleted in the meantime are skipped. Thus, the size of the stream isn't known in advance.
+     *
+     * @return a {@link Stream} over all values
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new ValueIterator(), Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Rewrites the file without obsolete records. The new file is written next to the old one and then published by
+     * an atomic rename.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            long[] offsets = index.offsets();
+            Arrays.sort(offsets);
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                target.write(header, 0);
+                long position = HEADER_SIZE;
+                for (long offset : offsets) {
+                    int length = RECORD_HEADER_SIZE + buffer.getInt((int) offset + 8);
+                    ByteBuffer record = buffer.duplicate();
+                    record.limit((int) offset + length).position((int) offset);
+                    while (record.hasRemaining()) {
+                        position += target.write(record, position);
+                    }
+                }
+                header.clear();
+                header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(position).flip();
+                target.write(header, 0);
+                target.force(true);
+            }
+            buffer.force();
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            long before = garbage;
+            open();
+            log.debug("Compacted file, released {} bytes", before);
+        } catch (IOException e) {
+            log.error("An error has occurred while compacting the file!", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces all changes to the disk.
+     */
+    @Override
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces all changes to the disk and closes the file. Afterwards the repository must no longer be used.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+            index.clear();
+        } catch (IOException e) {
+            log.error("An error has occurred while closing the file!", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean created = channel.size() < HEADER_SIZE;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), INITIAL_SIZE));
+        if (created) {
+            buffer.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putLong(8, HEADER_SIZE);
+            log.debug("File didn't exist yet. Created a new one.");
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unknown file format!");
+        }
+        index.clear();
+        garbage = 0;
+        long end = buffer.getLong(8);
+        int position = HEADER_SIZE;
+        while (position < end) {
+            long id = buffer.getLong(position);
+            int length = buffer.getInt(position + 8);
+            int recordSize = RECORD_HEADER_SIZE + Math.max(length, 0);
+            long previous = length == TOMBSTONE ? index.remove(id) : index.put(id, position);
+            if (previous != 0) {
+                garbage += recordSize(previous);
+            }
+            if (length == TOMBSTONE) {
+                garbage += recordSize;
+            }
+            position += recordSize;
+        }
+        log.debug("Indexed {} records", index.size());
+    }
+
+    private int recordSize(long offset) {
+        return RECORD_HEADER_SIZE + Math.max(buffer.getInt((int) offset + 8), 0);
+    }
+
+    private void append(long id, byte[] payload) {
+        int length = payload == null ? TOMBSTONE : payload.length;
+        int size = RECORD_HEADER_SIZE + Math.max(length, 0);
+        long end = buffer.getLong(8);
+        ensureCapacity(end + size);
+        int position = (int) end;
+        buffer.putLong(position, id).putInt(position + 8, length);
+        if (payload != null) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(position + RECORD_HEADER_SIZE);
+            target.put(payload);
+        }
+        // publish the record only after it has been completely written
+        buffer.putLong(8, end + size);
+        long previous = payload == null ? index.remove(id) : index.put(id, position);
+        if (previous != 0) {
+            garbage += recordSize(previous);
+        }
+        if (payload == null) {
+            garbage += size;
+        }
+    }
+
+    private void ensureCapacity(long required) {
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("File exceeds the maximum size of a mapped file!");
+        }
+        long capacity = buffer.capacity();
+        while (capacity < required) {
+            capacity = Math.min(capacity * 2, Integer.MAX_VALUE);
+        }
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to grow the mapped file!", e);
+        }
+    }
+
+    private T read(long offset) {
+        int length = buffer.getInt((int) offset + 8);
+        byte[] payload = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position((int) offset + RECORD_HEADER_SIZE);
+        source.get(payload);
+        return gson.fromJson(new String(payload, StandardCharsets.UTF_8), type);
+    }
+
+    private byte[] serialize(@Nullable T entity) {
+        return gson.toJson(entity, type).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(long id) {
+        lock.writeLock().lock();
+        try {
+            if (index.get(id) != 0) {
+                append(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (long id : ids) {
+                if (index.get(id) != 0) {
+                    append(id, null);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        lock.readLock().lock();
+        try {
+            return index.get(id) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a lazy view of all values. The values are deserialized while iterating, use {@link #stream()} to
+     * process them without materializing the whole collection.
+     *
+     * @return a lazy view of all values
+     */
+    @Override
+    public Collection<T> findAll() {
+        return new AbstractCollection<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return (int) count();
+            }
+        };
+    }
+
+    @Override
+    public Optional<T> findById(long id) {
+        lock.readLock().lock();
+        try {
+            long offset = index.get(id);
+            return offset == 0 ? Optional.empty() : Optional.ofNullable(read(offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void save(long id, @Nullable T entity) {
+        byte[] payload = serialize(entity);
+        lock.writeLock().lock();
+        try {
+            append(id, payload);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities) {
+        Map<Long, byte[]> payloads = new LinkedHashMap<>();
+        entities.forEach((id, entity) -> payloads.put(id, serialize(entity)));
+        lock.writeLock().lock();
+        try {
+            payloads.forEach(this::append);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Iterates over a snapshot of the index. Values that got deleted in the meantime are skipped.
+     */
+    private class ValueIterator implements Iterator<T> {
+
+        private final long[] ids;
+        private int cursor;
+        private T next;
+
+        private ValueIterator() {
+            lock.readLock().lock();
+            try {
+                ids = index.keys();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && cursor < ids.length) {
+                next = findById(ids[cursor++]).orElse(null);
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = next;
+            next = null;
+            return value;
+        }
+    }
+
+    /**
+     * Open addressing hash table mapping ids to record offsets, stored in a direct {@link ByteBuffer}. Each slot
+     * consists of the id and the offset, an offset of {@code 0} marks an empty slot. Uses linear probing with
+     * backward shift deletion, thus no tombstones are needed. Must be guarded by the caller.
+     */
+    private static class OffHeapIndex {
+
+        private static final int SLOT_SIZE = 16;
+        private ByteBuffer table;
+        private int mask;
+        private int size;
+
+        private OffHeapIndex(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+            mask = capacity - 1;
+            size = 0;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private long get(long key) {
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                long offset = table.getLong(slot * SLOT_SIZE + 8);
+                if (offset == 0) {
+                    return 0;
+                }
+                if (table.getLong(slot * SLOT_SIZE) == key) {
+                    return offset;
+                }
+            }
+        }
+
+        private long put(long key, long value) {
+            if ((size + 1) * 4L > (mask + 1) * 3L) {
+                resize();
+            }
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                long offset = table.getLong(slot * SLOT_SIZE + 8);
+                if (offset == 0) {
+                    table.putLong(slot * SLOT_SIZE, key).putLong(slot * SLOT_SIZE + 8, value);
+                    size++;
+                    return 0;
+                }
+                if (table.getLong(slot * SLOT_SIZE) == key) {
+                    table.putLong(slot * SLOT_SIZE + 8, value);
+                    return offset;
+                }
+            }
+        }
+
+        private long remove(long key) {
+            int slot = slot(key);
+            long offset;
+            while (true) {
+                offset = table.getLong(slot * SLOT_SIZE + 8);
+                if (offset == 0) {
+                    return 0;
+                }
+                if (table.getLong(slot * SLOT_SIZE) == key) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // shift following entries back, so lookups don't stop at the freed slot
+            int free = slot;
+            for (int next = (free + 1) & mask; ; next = (next + 1) & mask) {
+                long nextOffset = table.getLong(next * SLOT_SIZE + 8);
+                if (nextOffset == 0) {
+                    break;
+                }
+                long nextKey = table.getLong(next * SLOT_SIZE);
+                int home = slot(nextKey);
+                if (((next - home) & mask) >= ((next - free) & mask)) {
+                    table.putLong(free * SLOT_SIZE, nextKey).putLong(free * SLOT_SIZE + 8, nextOffset);
+                    free = next;
+                }
+            }
+            table.putLong(free * SLOT_SIZE, 0).putLong(free * SLOT_SIZE + 8, 0);
+            size--;
+            return offset;
+        }
+
+        private void resize() {
+            ByteBuffer old = table;
+            int capacity = mask + 1;
+            allocate(capacity * 2);
+            for (int slot = 0; slot < capacity; slot++) {
+                long offset = old.getLong(slot * SLOT_SIZE + 8);
+                if (offset != 0) {
+                    put(old.getLong(slot * SLOT_SIZE), offset);
+                }
+            }
+        }
+
+        private long[] keys() {
+            return collect(0);
+        }
+
+        private long[] offsets() {
+            return collect(8);
+        }
+
+        private long[] collect(int field) {
+            long[] result = new long[size];
+            int i = 0;
+            for (int slot = 0; slot <= mask; slot++) {
+                if (table.getLong(slot * SLOT_SIZE + 8) != 0) {
+                    result[i++] = table.getLong(slot * SLOT_SIZE + field);
+                }
+            }
+            return result;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void clear() {
+            allocate(mask + 1);
+        }
+    }
+}
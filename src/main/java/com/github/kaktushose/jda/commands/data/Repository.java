@@ -76,5 +76,5 @@ public interface Repository<T> {
      *
      * @param entities a Map containing all entities to save
      */
-    void saveAll(@NotNull Map<@Nullable Long, @Nullable T> entities);
+    void saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities);
 }
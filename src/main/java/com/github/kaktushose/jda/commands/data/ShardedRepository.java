@@ -0,0 +1,184 @@
+package com.github.kaktushose.jda.commands.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Implementation of the {@link Repository} interface that partitions the entities over multiple repositories. An
+ * entity is stored in the partition {@code id mod n}. Each partition is an independent repository with its own lock
+ * and its own file, thus modifications of entities in different partitions don't block each other and writing a
+ * partition only costs as much as the partition is large.
+ *
+ * <p>Batch operations are split up by partition, so each partition gets modified once per batch.
+ *
+ * @param <T> the type the repository manages
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.data.impl.GuildSettingsShardedRepository GuildSettingsShardedRepository
+ * @since 2.3.0
+ */
+public class ShardedRepository<T> implements Repository<T>, Closeable, Flushable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedRepository.class);
+    private final List<Repository<T>> partitions;
+
+    /**
+     * Constructs a new ShardedRepository.
+     *
+     * @param partitions the amount of partitions
+     * @param factory    the factory creating the repository for the partition with the given index
+     */
+    public ShardedRepository(int partitions, @NotNull IntFunction<? extends Repository<T>> factory) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Amount of partitions must be at least 1!");
+        }
+        List<Repository<T>> list = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            list.add(factory.apply(i));
+        }
+        this.partitions = Collections.unmodifiableList(list);
+        log.debug("Created {} partitions", partitions);
+    }
+
+    /**
+     * Gets an unmodifiable list of all partitions.
+     *
+     * @return an unmodifiable list of all partitions
+     */
+    public List<Repository<T>> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Gets the partition the entity with the given id is stored in.
+     *
+     * @param id the id of the entity
+     * @return the partition the entity is stored in
+     */
+    public Repository<T> getPartition(long id) {
+        return partitions.get(indexOf(id));
+    }
+
+    private int indexOf(long id) {
+        return (int) Math.floorMod(id, (long) partitions.size());
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (Repository<T> partition : partitions) {
+            count += partition.count();
+        }
+        return count;
+    }
+
+    @Override
+    public void delete(long id) {
+        getPartition(id).delete(id);
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<Long> ids) {
+        List<List<Long>> grouped = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            grouped.add(new ArrayList<>());
+        }
+        for (long id : ids) {
+            grouped.get(indexOf(id)).add(id);
+        }
+        for (int i = 0; i < partitions.size(); i++) {
+            if (!grouped.get(i).isEmpty()) {
+                partitions.get(i).deleteAll(grouped.get(i));
+            }
+        }
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return getPartition(id).existsById(id);
+    }
+
+    /**
+     * Returns a view of the entities of all partitions. The partitions are only accessed while iterating.
+     *
+     * @return a view of all entities
+     */
+    @Override
+    public Collection<T> findAll() {
+        return new AbstractCollection<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return partitions.stream().flatMap(partition -> partition.findAll().stream()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return (int) count();
+            }
+        };
+    }
+
+    @Override
+    public Optional<T> findById(long id) {
+        return getPartition(id).findById(id);
+    }
+
+    @Override
+    public void save(long id, @Nullable T entity) {
+        getPartition(id).save(id, entity);
+    }
+
+    @Override
+    public void saveAll(@NotNull Map<@NotNull Long, @Nullable T> entities) {
+        List<Map<Long, T>> grouped = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            grouped.add(new HashMap<>());
+        }
+        entities.forEach((id, entity) -> grouped.get(indexOf(id)).put(id, entity));
+        for (int i = 0; i < partitions.size(); i++) {
+            if (!grouped.get(i).isEmpty()) {
+                partitions.get(i).saveAll(grouped.get(i));
+            }
+        }
+    }
+
+    /**
+     * Flushes all partitions that are {@link Flushable}.
+     */
+    @Override
+    public void flush() {
+        for (Repository<T> partition : partitions) {
+            if (partition instanceof Flushable) {
+                try {
+                    ((Flushable) partition).flush();
+                } catch (IOException e) {
+                    log.error("An error has occurred while flushing a partition!", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all partitions that are {@link Closeable}.
+     */
+    @Override
+    public void close() {
+        for (Repository<T> partition : partitions) {
+            if (partition instanceof Closeable) {
+                try {
+                    ((Closeable) partition).close();
+                } catch (IOException e) {
+                    log.error("An error has occurred while closing a partition!", e);
+                }
+            }
+        }
+    }
+}
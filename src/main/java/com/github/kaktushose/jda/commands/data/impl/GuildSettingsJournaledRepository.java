@@ -0,0 +1,43 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.JournaledRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * An implementation of the {@link JournaledRepository} to store {@link GuildSettings} in an append-only journal. Uses
+ * the {@link GuildSettingsTypeAdapter} to read and write the settings without reflection.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GuildSettingsJournaledRepository extends JournaledRepository<GuildSettings> {
+
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(GuildSettings.class, new GuildSettingsTypeAdapter())
+            .create();
+
+    /**
+     * Constructs a new GuildSettingsJournaledRepository.
+     *
+     * @param directory the directory to store the files in
+     */
+    public GuildSettingsJournaledRepository(@NotNull File directory) {
+        super(directory, "guilds", GuildSettings.class, DEFAULT_COMPACTION_THRESHOLD, gson);
+    }
+
+    /**
+     * Constructs a new GuildSettingsJournaledRepository.
+     *
+     * @param directory           the directory to store the files in
+     * @param compactionThreshold the size in bytes the journal may grow to before it gets compacted
+     */
+    public GuildSettingsJournaledRepository(@NotNull File directory, long compactionThreshold) {
+        super(directory, "guilds", GuildSettings.class, compactionThreshold, gson);
+    }
+}
@@ -3,19 +3,20 @@ package com.github.kaktushose.jda.commands.data.impl;
 import com.github.kaktushose.jda.commands.data.JsonRepository;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
 import com.google.common.reflect.TypeToken;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.lang.reflect.Type;
-import java.util.Collection;
 import java.util.Map;
-import java.util.Optional;
 
 /**
- * An implementation of the {@link JsonRepository} interface to store {@link GuildSettings} in json format.
+ * An implementation of the {@link JsonRepository} interface to store {@link GuildSettings} in json format. Uses the
+ * {@link GuildSettingsTypeAdapter} to read and write the settings without reflection.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
@@ -23,6 +24,9 @@ public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
     @SuppressWarnings("UnstableApiUsage")
     private static final Type mapType = new TypeToken<Map<Long, GuildSettings>>() {
     }.getType();
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(GuildSettings.class, new GuildSettingsTypeAdapter())
+            .create();
 
     /**
      * Constructs a new GuildJsonRepository.
@@ -30,7 +34,7 @@ public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
      * @param path the path of the file to save the json in
      */
     public GuildSettingsJsonRepository(@NotNull String path) {
-        super(path, mapType);
+        this(new File(path));
     }
 
     /**
@@ -39,16 +43,6 @@ public class GuildSettingsJsonRepository extends JsonRepository<GuildSettings> {
      * @param file the file to save the json in
      */
     public GuildSettingsJsonRepository(@NotNull File file) {
-        super(file, mapType);
-    }
-
-    @Override
-    public Collection<GuildSettings> findAll() {
-        return map.values();
-    }
-
-    @Override
-    public Optional<GuildSettings> findById(long id) {
-        return Optional.ofNullable(map.get(id));
+        super(file, mapType, gson);
     }
 }
@@ -0,0 +1,42 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.MappedRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * An implementation of the {@link MappedRepository} to store {@link GuildSettings} in a memory-mapped file. Uses the
+ * {@link GuildSettingsTypeAdapter} to read and write the settings without reflection.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GuildSettingsMappedRepository extends MappedRepository<GuildSettings> {
+
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(GuildSettings.class, new GuildSettingsTypeAdapter())
+            .create();
+
+    /**
+     * Constructs a new GuildSettingsMappedRepository.
+     *
+     * @param path the path of the file to store the records in
+     */
+    public GuildSettingsMappedRepository(@NotNull String path) {
+        this(new File(path));
+    }
+
+    /**
+     * Constructs a new GuildSettingsMappedRepository.
+     *
+     * @param file the file to store the records in
+     */
+    public GuildSettingsMappedRepository(@NotNull File file) {
+        super(file, GuildSettings.class, gson);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.JsonRepository;
+import com.github.kaktushose.jda.commands.data.Repository;
+import com.github.kaktushose.jda.commands.data.ShardedRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An implementation of the {@link ShardedRepository} to store {@link GuildSettings} in multiple json files. Each
+ * partition is a {@link GuildSettingsJsonRepository} stored in the file {@code guilds-<index>.json}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GuildSettingsShardedRepository extends ShardedRepository<GuildSettings> {
+
+    private final List<JsonRepository<GuildSettings>> jsonPartitions;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs a new GuildSettingsShardedRepository.
+     *
+     * @param directory  the directory to store the files in
+     * @param partitions the amount of partitions
+     * @throws IllegalArgumentException if a partition isn't a {@link JsonRepository}
+     */
+    @SuppressWarnings("unchecked")
+    public GuildSettingsShardedRepository(@NotNull File directory, int partitions) {
+        super(partitions, index -> {
+            directory.mkdirs();
+            return new GuildSettingsJsonRepository(new File(directory, "guilds-" + index + ".json"));
+        });
+        List<JsonRepository<GuildSettings>> list = new ArrayList<>();
+        for (Repository<GuildSettings> partition : getPartitions()) {
+            if (!(partition instanceof JsonRepository)) {
+                throw new IllegalArgumentException("Partitions must be JsonRepositories!");
+            }
+            list.add((JsonRepository<GuildSettings>) partition);
+        }
+        jsonPartitions = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Enables the write-behind mode for all partitions. The partitions share a pool of up to one flusher thread per
+     * processor and their flushes are spread evenly over the interval, thus only a few partitions get written at the
+     * same time.
+     *
+     * @param interval  the interval between two flushes of a partition
+     * @param unit      the {@link TimeUnit} of the interval
+     * @param threshold the amount of dirty entries of a partition that triggers a flush regardless of the interval
+     * @see JsonRepository#enableWriteBehind(ScheduledExecutorService, long, long, TimeUnit, int)
+     */
+    public synchronized void enableWriteBehind(long interval, @NotNull TimeUnit unit, int threshold) {
+        if (executor != null) {
+            throw new IllegalStateException("Write-behind mode is already enabled!");
+        }
+        int partitions = getPartitions().size();
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(Math.min(partitions, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "GuildSettingsShardedRepository-Flusher-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = unit.toNanos(interval);
+        for (int i = 0; i < partitions; i++) {
+            long initialDelay = intervalNanos * (i + 1) / partitions;
+            jsonPartitions.get(i).enableWriteBehind(executor, initialDelay, intervalNanos, TimeUnit.NANOSECONDS, threshold);
+        }
+    }
+
+    /**
+     * Closes all partitions and stops the flusher threads.
+     */
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+}
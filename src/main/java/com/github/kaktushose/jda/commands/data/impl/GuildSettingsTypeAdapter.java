@@ -0,0 +1,118 @@
+package com.github.kaktushose.jda.commands.data.impl;
+
+import com.github.kaktushose.jda.commands.data.LongSet;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written {@link TypeAdapter} for {@link GuildSettings}. Produces the same json as Gson's reflective adapter but
+ * doesn't need any reflection at runtime. Missing properties keep the default values of
+ * {@link GuildSettings#GuildSettings()}, unknown properties are skipped.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GuildSettingsTypeAdapter extends TypeAdapter<GuildSettings> {
+
+    @Override
+    public void write(JsonWriter out, GuildSettings settings) throws IOException {
+        if (settings == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("guildId").value(settings.getGuildId());
+        out.name("prefix").value(settings.getPrefix());
+        out.name("ignoreCase").value(settings.isIgnoreCase());
+        out.name("ignoreBots").value(settings.isIgnoreBots());
+        out.name("parseQuotes").value(settings.isParseQuotes());
+        // read the collections through the snapshot, thus they are consistent with each other
+        SettingsSnapshot snapshot = settings.getSnapshot();
+        out.name("helpLabels");
+        out.beginArray();
+        for (String label : snapshot.getHelpLabels()) {
+            out.value(label);
+        }
+        out.endArray();
+        out.name("mutedChannels");
+        out.beginArray();
+        for (long channel : snapshot.getMutedChannels()) {
+            out.value(channel);
+        }
+        out.endArray();
+        out.name("isMutedGuild").value(settings.isMutedGuild());
+        out.name("maxDistance").value(settings.getMaxDistance());
+        out.endObject();
+    }
+
+    @Override
+    public GuildSettings read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        GuildSettings settings = new GuildSettings();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "guildId":
+                    settings.setGuildId(in.nextLong());
+                    break;
+                case "prefix":
+                    settings.setPrefix(in.nextString());
+                    break;
+                case "ignoreCase":
+                    settings.setIgnoreCase(in.nextBoolean());
+                    break;
+                case "ignoreBots":
+                    settings.setIgnoreBots(in.nextBoolean());
+                    break;
+                case "parseQuotes":
+                    settings.setParseQuotes(in.nextBoolean());
+                    break;
+                case "helpLabels":
+                    List<String> labels = new ArrayList<>();
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        labels.add(in.nextString());
+                    }
+                    in.endArray();
+                    settings.setHelpLabels(labels);
+                    break;
+                case "mutedChannels":
+                    LongSet channels = new LongSet();
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        channels.add(in.nextLong());
+                    }
+                    in.endArray();
+                    settings.setMutedChannels(channels);
+                    break;
+                case "isMutedGuild":
+                    settings.setMutedGuild(in.nextBoolean());
+                    break;
+                case "maxDistance":
+                    settings.setMaxDistance(in.nextInt());
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return settings;
+    }
+}
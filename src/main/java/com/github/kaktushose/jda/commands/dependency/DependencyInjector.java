@@ -1,90 +1,91 @@
 package com.github.kaktushose.jda.commands.dependency;
 
 import com.github.kaktushose.jda.commands.annotations.Produces;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import com.github.kaktushose.jda.commands.reflect.ReflectionsClassIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.reflections.Reflections;
-import org.reflections.scanners.MethodAnnotationsScanner;
-import org.reflections.scanners.SubTypesScanner;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Central registry for dependencies and producing methods. Registered dependencies will be injected with the
- * corresponding values if present, else null.
+ * corresponding values if present, else null. Dependencies are resolved by assignable type, an exact type match is
+ * preferred though. Producer methods and field setters are compiled to {@link MethodHandle MethodHandles} once on
+ * registration. This class is thread-safe, thus controllers can register their dependencies while being built in
+ * parallel.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Produces
+ * @see Scope
  * @see com.github.kaktushose.jda.commands.annotations.Inject Inject
  * @since 1.0.0
  */
 public class DependencyInjector {
 
-    private final Map<Class<?>, Object> providedObjects;
-    private final Map<Object, List<Field>> dependencies;
-    private final Logger log = LoggerFactory.getLogger(DependencyInjector.class);
+    private static final Logger log = LoggerFactory.getLogger(DependencyInjector.class);
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final Map<Class<?>, Provider> providers;
+    private final Map<Class<?>, Optional<Provider>> resolved;
+    private final Map<Object, List<Injection>> dependencies;
+    private final Map<Class<?>, Object> producerInstances;
 
     /**
      * Create a new DependencyInjector.
      */
     public DependencyInjector() {
-        providedObjects = new HashMap<>();
-        dependencies = new HashMap<>();
+        providers = Collections.synchronizedMap(new LinkedHashMap<>());
+        resolved = new ConcurrentHashMap<>();
+        dependencies = new ConcurrentHashMap<>();
+        producerInstances = new ConcurrentHashMap<>();
     }
 
     /**
      * Scans the whole classpath for methods annotated with {@link Produces}. If found, creates a new instance of
-     * the declaring class and will call the method to retrieve the object and register it as a dependency.
+     * the declaring class and will register the method as a provider of the returned type.
      *
      * @param packages package(s) to exclusively scan
      * @param clazz    a class of the classpath to scan
      */
     public void index(@NotNull Class<?> clazz, @NotNull String... packages) {
+        index(new ReflectionsClassIndex(clazz, packages));
+    }
+
+    /**
+     * Registers all methods annotated with {@link Produces} of the given {@link ClassIndex}. Creates one instance of
+     * each declaring class, unless the method is static, and will register the method as a provider of the returned
+     * type. {@link Scope#SINGLETON Singletons} are created immediately.
+     *
+     * @param classIndex the {@link ClassIndex} to get the producer methods from
+     */
+    public void index(@NotNull ClassIndex classIndex) {
         log.debug("Indexing dependency providers...");
-        ConfigurationBuilder config = new ConfigurationBuilder()
-                .setScanners(new SubTypesScanner(), new MethodAnnotationsScanner())
-                .setUrls(ClasspathHelper.forClass(clazz))
-                .filterInputsBy(new FilterBuilder().includePackage(packages));
-        Reflections reflections = new Reflections(config);
-
-        Set<Method> methods = reflections.getMethodsAnnotatedWith(Produces.class);
-        for (Method method : methods) {
-            if (method.getParameterTypes().length != 0) {
-                log.error("An error has occurred! Skipping Producer {}", method,
-                        new IllegalArgumentException("Producer method must not have parameters!"));
-                continue;
-            }
-            Object instance;
-            try {
-                instance = method.getDeclaringClass().getConstructors()[0].newInstance();
-            } catch (Exception e) {
-                log.error("Unable to create provider instance!", e);
-                continue;
-            }
-            try {
-                method.setAccessible(true);
-                Object object = method.invoke(instance);
-                providedObjects.put(object.getClass(), object);
-            } catch (Exception e) {
-                log.error("Unable to access method {}", method, e);
+
+        for (Method method : classIndex.getMethodsAnnotatedWith(Produces.class)) {
+            Object instance = null;
+            if (!Modifier.isStatic(method.getModifiers())) {
+                try {
+                    instance = producerInstances.computeIfAbsent(method.getDeclaringClass(), this::newInstance);
+                } catch (IllegalStateException e) {
+                    log.error("Unable to create provider instance!", e.getCause());
+                    continue;
+                }
             }
+            register(method, instance);
         }
     }
 
     /**
-     * Takes an instance of a class and scans it for methods annotated with {@link Produces}. If found, will call
-     * the method to retrieve the object and register it as a dependency.
+     * Takes an instance of a class and scans it for methods annotated with {@link Produces}. If found, will register
+     * the method as a provider of the returned type.
      *
      * @param provider instance of the class to scan
      */
@@ -93,18 +94,7 @@ public class DependencyInjector {
             if (!method.isAnnotationPresent(Produces.class)) {
                 continue;
             }
-            if (method.getParameterTypes().length != 0) {
-                log.error("An error has occurred! Skipping Producer {}", method,
-                        new IllegalArgumentException("Producer method must not have parameters!"));
-                continue;
-            }
-            try {
-                method.setAccessible(true);
-                Object object = method.invoke(provider);
-                providedObjects.put(object.getClass(), object);
-            } catch (Exception e) {
-                log.error("Unable to access method {}", method, e);
-            }
+            register(method, provider);
         }
     }
 
@@ -115,27 +105,208 @@ public class DependencyInjector {
      * @param fields   the dependencies to register
      */
     public void registerDependencies(@NotNull Object instance, @NotNull List<Field> fields) {
-        dependencies.put(instance, fields);
+        List<Injection> injections = new ArrayList<>();
+        for (Field field : fields) {
+            try {
+                field.setAccessible(true);
+                injections.add(new Injection(field, lookup.unreflectSetter(field).bindTo(instance)));
+            } catch (IllegalAccessException | RuntimeException e) {
+                log.error("Unable to inject field {}", field, e);
+            }
+        }
+        dependencies.put(instance, injections);
+    }
+
+    /**
+     * Unregisters the dependencies of an instance, e.g. after its controller was unregistered.
+     *
+     * @param instance instance of the declaring class
+     */
+    public void unregisterDependencies(@NotNull Object instance) {
+        dependencies.remove(instance);
     }
 
     /**
      * Injects all registered dependencies with the corresponding value. If no value is present {@code null} gets injected.
      */
     public void inject() {
-        dependencies.forEach((instance, fields) -> {
-            for (Field field : fields) {
-                try {
-                    field.setAccessible(true);
-                    field.set(instance, getDependency(field.getType()));
-                } catch (IllegalAccessException e) {
-                    log.error("Unable to inject field {}", field, e);
+        dependencies.forEach((instance, injections) -> inject(injections));
+    }
+
+    /**
+     * Injects the registered dependencies of a single instance with the corresponding value. If no value is present
+     * {@code null} gets injected.
+     *
+     * @param instance instance of the declaring class
+     */
+    public void inject(@NotNull Object instance) {
+        List<Injection> injections = dependencies.get(instance);
+        if (injections != null) {
+            inject(injections);
+        }
+    }
+
+    private void inject(List<Injection> injections) {
+        for (Injection injection : injections) {
+            try {
+                injection.setter.invoke(resolveValue(injection.field));
+            } catch (Throwable e) {
+                log.error("Unable to inject field {}", injection.field, e);
+            }
+        }
+    }
 
+    /**
+     * Gets the value of a dependency. This will call the producer method if the dependency is
+     * {@link Scope#LAZY lazy} and not created yet or if it is a {@link Scope#PROTOTYPE prototype}.
+     *
+     * @param type the type of the dependency
+     * @param <T>  the type of the dependency
+     * @return an {@link Optional} holding the value of the dependency
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getDependency(@NotNull Class<T> type) {
+        return resolve(type).map(provider -> (T) provider.get());
+    }
+
+    private void register(Method method, @Nullable Object instance) {
+        if (method.getParameterTypes().length != 0) {
+            log.error("An error has occurred! Skipping Producer {}", method,
+                    new IllegalArgumentException("Producer method must not have parameters!"));
+            return;
+        }
+        if (method.getReturnType() == void.class) {
+            log.error("An error has occurred! Skipping Producer {}", method,
+                    new IllegalArgumentException("Producer method must not return void!"));
+            return;
+        }
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = lookup.unreflect(method);
+            if (instance != null) {
+                handle = handle.bindTo(instance);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.error("Unable to access method {}", method, e);
+            return;
+        }
+        Scope scope = method.getAnnotation(Produces.class).scope();
+        Provider provider = new Provider(method, handle, scope);
+        if (scope == Scope.SINGLETON) {
+            Object object = provider.get();
+            if (object == null) {
+                return;
+            }
+            // singletons are known upfront, thus they can be resolved by their runtime type as well
+            if (object.getClass() != method.getReturnType()) {
+                providers.put(object.getClass(), provider);
+            }
+        }
+        providers.put(method.getReturnType(), provider);
+        resolved.clear();
+    }
+
+    private Object resolveValue(Field field) {
+        if (field.getType() != Supplier.class || resolve(Supplier.class).isPresent()) {
+            return resolve(field.getType()).map(Provider::get).orElse(null);
+        }
+        // inject a supplier, thus lazy dependencies are created on first use
+        Type type = field.getGenericType();
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+        if (argument instanceof ParameterizedType) {
+            argument = ((ParameterizedType) argument).getRawType();
+        }
+        if (!(argument instanceof Class)) {
+            return null;
+        }
+        return resolve((Class<?>) argument).<Supplier<Object>>map(provider -> provider::get).orElse(null);
+    }
+
+    private Optional<Provider> resolve(Class<?> type) {
+        return resolved.computeIfAbsent(type, key -> {
+            synchronized (providers) {
+                Provider exact = providers.get(key);
+                if (exact != null) {
+                    return Optional.of(exact);
+                }
+                Provider match = null;
+                for (Map.Entry<Class<?>, Provider> entry : providers.entrySet()) {
+                    if (!key.isAssignableFrom(entry.getKey())) {
+                        continue;
+                    }
+                    if (match != null && match != entry.getValue()) {
+                        log.warn("Multiple producers found for {}, using {}", key, match.method);
+                        break;
+                    }
+                    match = entry.getValue();
                 }
+                return Optional.ofNullable(match);
             }
         });
     }
 
-    private Object getDependency(@Nullable Class<?> clazz) {
-        return providedObjects.get(clazz);
+    private Object newInstance(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return lookup.unreflectConstructor(constructor).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Injection {
+
+        private final Field field;
+        private final MethodHandle setter;
+
+        private Injection(Field field, MethodHandle setter) {
+            this.field = field;
+            this.setter = setter;
+        }
+    }
+
+    private static class Provider {
+
+        private final Method method;
+        private final MethodHandle handle;
+        private final Scope scope;
+        private volatile Object value;
+
+        private Provider(Method method, MethodHandle handle, Scope scope) {
+            this.method = method;
+            this.handle = handle;
+            this.scope = scope;
+        }
+
+        private Object get() {
+            if (scope == Scope.PROTOTYPE) {
+                return produce();
+            }
+            Object result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = produce();
+                        value = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private Object produce() {
+            try {
+                return handle.invoke();
+            } catch (Throwable e) {
+                log.error("Unable to access method {}", method, e);
+                return null;
+            }
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.github.kaktushose.jda.commands.dependency;
+
+/**
+ * Scopes of a {@link com.github.kaktushose.jda.commands.annotations.Produces Producer}, defining when the producer
+ * method gets called.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.annotations.Produces Produces
+ * @since 2.3.0
+ */
+public enum Scope {
+
+    /**
+     * The producer method is called once on startup and the object is shared by all injection points.
+     */
+    SINGLETON,
+
+    /**
+     * The producer method is called once on first use and the object is shared by all injection points. To defer the
+     * creation beyond startup, inject a {@link java.util.function.Supplier Supplier} of the dependency.
+     */
+    LAZY,
+
+    /**
+     * The producer method is called for every injection point, respectively on every call of an injected
+     * {@link java.util.function.Supplier Supplier}.
+     */
+    PROTOTYPE
+}
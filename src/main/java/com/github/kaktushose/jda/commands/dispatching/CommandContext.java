@@ -2,8 +2,10 @@ package com.github.kaktushose.jda.commands.dispatching;
 
 import com.github.kaktushose.jda.commands.JDACommands;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
@@ -19,7 +21,7 @@ import java.util.List;
  * a {@link CommandEvent}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class CommandContext {
@@ -31,6 +33,8 @@ public class CommandContext {
     private List<Object> arguments;
     private Message errorMessage;
     private GuildSettings settings;
+    private SettingsSnapshot snapshot;
+    private CommandRegistry.Snapshot registrySnapshot;
     private ImplementationRegistry registry;
     private JDACommands jdaCommands;
     private boolean isHelpEvent;
@@ -168,13 +172,45 @@ public class CommandContext {
     }
 
     /**
-     * Set the {@link GuildSettings}.
+     * Set the {@link GuildSettings}. This will also capture the current {@link SettingsSnapshot}.
      *
      * @param settings the {@link GuildSettings}
      * @return the current CommandContext instance
      */
     public CommandContext setSettings(@NotNull GuildSettings settings) {
         this.settings = settings;
+        this.snapshot = settings.getSnapshot();
+        return this;
+    }
+
+    /**
+     * Gets the {@link SettingsSnapshot} that was captured when the {@link GuildSettings} were set. The snapshot stays
+     * the same for the whole execution chain, even if the {@link GuildSettings} get modified concurrently.
+     *
+     * @return the corresponding {@link SettingsSnapshot}
+     */
+    public SettingsSnapshot getSettingsSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the {@link CommandRegistry.Snapshot} the dispatch of this context works on. The snapshot stays the same for
+     * the whole execution chain, even if controllers get registered or unregistered concurrently.
+     *
+     * @return the corresponding {@link CommandRegistry.Snapshot}
+     */
+    public CommandRegistry.Snapshot getRegistrySnapshot() {
+        return registrySnapshot;
+    }
+
+    /**
+     * Set the {@link CommandRegistry.Snapshot} the dispatch of this context works on.
+     *
+     * @param registrySnapshot the {@link CommandRegistry.Snapshot}
+     * @return the current CommandContext instance
+     */
+    public CommandContext setRegistrySnapshot(@NotNull CommandRegistry.Snapshot registrySnapshot) {
+        this.registrySnapshot = registrySnapshot;
         return this;
     }
 
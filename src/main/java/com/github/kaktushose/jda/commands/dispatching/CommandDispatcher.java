@@ -11,28 +11,41 @@ import com.github.kaktushose.jda.commands.dispatching.router.Router;
 import com.github.kaktushose.jda.commands.dispatching.sender.MessageSender;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import com.github.kaktushose.jda.commands.embeds.help.HelpMessageFactory;
+import com.github.kaktushose.jda.commands.reflect.CachedClassIndex;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
 import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.reflect.GeneratedClassIndex;
+import com.github.kaktushose.jda.commands.reflect.ReflectionsClassIndex;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Dispatches commands by taking a {@link CommandContext} and passing it through the execution chain.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class CommandDispatcher {
 
+    /**
+     * The default time in seconds to wait for in-flight commands on shutdown.
+     */
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 10;
     private static final Logger log = LoggerFactory.getLogger(CommandDispatcher.class);
-    private static boolean isActive;
     private final Object jda;
     private final boolean isShardManager;
     private final ImplementationRegistry implementationRegistry;
@@ -43,6 +56,9 @@ public class CommandDispatcher {
     private final CommandRegistry commandRegistry;
     private final DependencyInjector dependencyInjector;
     private final JDACommands jdaCommands;
+    private final StartupReport startupReport;
+    private final InFlightTracker inFlightTracker = new InFlightTracker();
+    private volatile boolean isActive;
 
     /**
      * Constructs a new CommandDispatcher.
@@ -52,7 +68,6 @@ public class CommandDispatcher {
      * @param jdaCommands    the corresponding {@link JDACommands} instance
      * @param packages       optional packages to exclusively scan
      * @param clazz          a class of the classpath to scan
-     * @throws IllegalStateException if an instance of this class is already active.
      */
     public CommandDispatcher(@NotNull Object jda,
                              boolean isShardManager,
@@ -63,19 +78,18 @@ public class CommandDispatcher {
         this.isShardManager = isShardManager;
         this.jdaCommands = jdaCommands;
 
-        if (isActive) {
-            throw new IllegalStateException("An instance of the command framework is already running!");
-        }
+        StartupReport.Recorder recorder = new StartupReport.Recorder();
+        ClassIndex classIndex = recorder.record(StartupReport.CLASS_INDEX, () -> createClassIndex(clazz, packages));
 
         dependencyInjector = new DependencyInjector();
-        dependencyInjector.index(clazz, packages);
+        recorder.record(StartupReport.DEPENDENCY_INDEXING, () -> dependencyInjector.index(classIndex));
 
         filterRegistry = new FilterRegistry();
         adapterRegistry = new TypeAdapterRegistry();
         validatorRegistry = new ValidatorRegistry();
 
         implementationRegistry = new ImplementationRegistry(dependencyInjector, filterRegistry, adapterRegistry, validatorRegistry);
-        implementationRegistry.index(clazz, packages);
+        recorder.record(StartupReport.IMPLEMENTATION_INDEXING, () -> implementationRegistry.index(classIndex));
 
         parserSupervisor = new ParserSupervisor(this);
         if (isShardManager) {
@@ -85,31 +99,119 @@ public class CommandDispatcher {
         }
 
         commandRegistry = new CommandRegistry(adapterRegistry, validatorRegistry, dependencyInjector);
-        commandRegistry.index(clazz, packages);
+        recorder.record(StartupReport.DEFINITION_BUILDING, () -> commandRegistry.index(classIndex));
 
-        dependencyInjector.inject();
+        recorder.record(StartupReport.INJECTION, () -> dependencyInjector.inject());
+        startupReport = recorder.build();
+        log.info(startupReport.toString());
         isActive = true;
     }
 
     /**
-     * Whether this CommandDispatcher is active.
+     * Whether this CommandDispatcher is active. Multiple CommandDispatchers can be active at the same time, each of them
+     * holding its own registries.
      *
      * @return {@code true} if the CommandDispatcher is active
      */
-    public static boolean isActive() {
+    public boolean isActive() {
         return isActive;
     }
 
     /**
-     * Shuts down this CommandDispatcher instance, making it unable to receive any events from Discord.
+     * Gets the {@link StartupReport} holding the timings of the startup of this CommandDispatcher.
+     *
+     * @return the {@link StartupReport}
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    private ClassIndex createClassIndex(Class<?> clazz, String... packages) {
+        Optional<GeneratedClassIndex> generated = GeneratedClassIndex.load(clazz, packages);
+        if (generated.isPresent()) {
+            return generated.get();
+        }
+        Optional<CachedClassIndex> cached = CachedClassIndex.fromSystemProperty(clazz, packages);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return new ReflectionsClassIndex(clazz, packages);
+    }
+
+    /**
+     * Shuts down this CommandDispatcher instance, making it unable to receive any events from Discord. Waits up to
+     * {@value #DEFAULT_SHUTDOWN_TIMEOUT} seconds for in-flight commands to complete.
+     *
+     * @see #shutdown(long, TimeUnit)
      */
     public void shutdown() {
+        shutdown(DEFAULT_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Shuts down this CommandDispatcher instance. This will first stop the admission of new events and then wait up to
+     * the given timeout for in-flight commands to complete. Afterwards, all custom implementations that are
+     * {@link Flushable} get flushed and all that are {@link Closeable} get closed, e.g. a
+     * {@link com.github.kaktushose.jda.commands.settings.RepositorySettingsProvider RepositorySettingsProvider}
+     * flushing its write-behind buffer.
+     *
+     * @param timeout the maximum time to wait for in-flight commands
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return a {@link ShutdownReport} reporting what was abandoned
+     */
+    public ShutdownReport shutdown(long timeout, @NotNull TimeUnit unit) {
+        long start = System.nanoTime();
+        long deadline = start + unit.toNanos(timeout);
+        inFlightTracker.close();
+        isActive = false;
         if (isShardManager) {
-            ((ShardManager) jda).removeEventListener(this);
+            ((ShardManager) jda).removeEventListener(parserSupervisor);
         } else {
-            ((JDA) jda).removeEventListener(this);
+            ((JDA) jda).removeEventListener(parserSupervisor);
         }
-        isActive = false;
+
+        log.debug("Waiting for {} in-flight command(s)...", inFlightTracker.getCount());
+        parserSupervisor.getShardExecutors().ifPresent(executors ->
+                executors.shutdown(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+        );
+        if (!inFlightTracker.awaitIdle(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            log.warn("Abandoning {} in-flight command(s), they didn't complete in time!", inFlightTracker.getCount());
+        }
+        int abandoned = inFlightTracker.getCount();
+
+        List<String> failed = new ArrayList<>();
+        Set<Object> resources = Collections.newSetFromMap(new IdentityHashMap<>());
+        resources.addAll(Arrays.asList(
+                implementationRegistry.getSettingsProvider(),
+                implementationRegistry.getPermissionsProvider(),
+                implementationRegistry.getHelpMessageFactory(),
+                implementationRegistry.getErrorMessageFactory(),
+                implementationRegistry.getRouter(),
+                implementationRegistry.getMessageSender()
+        ));
+        for (Object resource : resources) {
+            try {
+                if (resource instanceof Flushable) {
+                    ((Flushable) resource).flush();
+                }
+                if (resource instanceof Closeable) {
+                    ((Closeable) resource).close();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Unable to flush or close {}", resource.getClass().getName(), e);
+                failed.add(resource.getClass().getName());
+            }
+        }
+        return new ShutdownReport(Duration.ofNanos(System.nanoTime() - start), abandoned, failed);
+    }
+
+    /**
+     * Gets the {@link InFlightTracker} that admits events to this CommandDispatcher.
+     *
+     * @return the {@link InFlightTracker}
+     */
+    public InFlightTracker getInFlightTracker() {
+        return inFlightTracker;
     }
 
     /**
@@ -119,6 +221,10 @@ public class CommandDispatcher {
      * @param context the {@link CommandContext} to dispatch.
      */
     public void onEvent(@NotNull CommandContext context) {
+        // capture the registry once, thus routing and help always see the same controllers and commands
+        CommandRegistry.Snapshot registry = commandRegistry.getSnapshot();
+        context.setRegistrySnapshot(registry);
+
         log.debug("Applying filters in phase BEFORE_ROUTING...");
         for (Filter filter : filterRegistry.getAll(FilterPosition.BEFORE_ROUTING)) {
             filter.apply(context);
@@ -131,11 +237,11 @@ public class CommandDispatcher {
         Router router = implementationRegistry.getRouter();
         MessageSender sender = implementationRegistry.getMessageSender();
 
-        router.findCommands(context, commandRegistry.getCommands());
+        router.findCommands(context, registry.getCommands());
 
         if (context.isCancelled() && context.isHelpEvent()) {
             log.debug("Sending generic help");
-            sender.sendGenericHelpMessage(context, helpMessageFactory.getGenericHelp(commandRegistry.getControllers(), context));
+            sender.sendGenericHelpMessage(context, helpMessageFactory.getGenericHelp(registry.getControllers(), context));
             return;
         }
 
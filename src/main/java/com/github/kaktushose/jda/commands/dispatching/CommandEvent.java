@@ -175,7 +175,7 @@ public class CommandEvent extends MessageReceivedEvent {
     public void sendGenericHelpMessage() {
         getJdaCommands().getImplementationRegistry().getMessageSender().sendGenericHelpMessage(
                 context,
-                getHelpMessageFactory().getGenericHelp(getJdaCommands().getCommandRegistry().getControllers(), context)
+                getHelpMessageFactory().getGenericHelp(context.getRegistrySnapshot().getControllers(), context)
         );
     }
 
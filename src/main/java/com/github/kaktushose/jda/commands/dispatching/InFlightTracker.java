@@ -0,0 +1,115 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the events that are currently processed by a {@link CommandDispatcher}. Once closed, no further
+ * events are admitted, thus the dispatcher can wait for the in-flight events to complete before shutting down.
+ *
+ * <p>Admission is lock-free, the lock is only used to wake up a thread waiting in
+ * {@link #awaitIdle(long, TimeUnit)}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CommandDispatcher#shutdown(long, TimeUnit)
+ * @since 2.3.0
+ */
+public class InFlightTracker {
+
+    private final AtomicInteger count;
+    private final Object lock;
+    private volatile boolean isOpen;
+
+    /**
+     * Constructs a new open InFlightTracker.
+     */
+    public InFlightTracker() {
+        count = new AtomicInteger();
+        lock = new Object();
+        isOpen = true;
+    }
+
+    /**
+     * Admits an event. Every successful call must be followed by a call of {@link #exit()} once the event is
+     * processed.
+     *
+     * @return {@code true} if the event was admitted, {@code false} if this tracker is closed
+     */
+    public boolean tryEnter() {
+        if (!isOpen) {
+            return false;
+        }
+        count.incrementAndGet();
+        if (!isOpen) {
+            exit();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks an admitted event as processed.
+     */
+    public void exit() {
+        if (count.decrementAndGet() == 0 && !isOpen) {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stops the admission of further events.
+     */
+    public void close() {
+        isOpen = false;
+    }
+
+    /**
+     * Whether this tracker admits events.
+     *
+     * @return {@code true} if this tracker admits events
+     */
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * Gets the amount of admitted events that aren't processed yet.
+     *
+     * @return the amount of in-flight events
+     */
+    public int getCount() {
+        return count.get();
+    }
+
+    /**
+     * Waits until all admitted events are processed. This should only be called after {@link #close()}, else new
+     * events might be admitted while waiting.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return {@code true} if all events were processed in time
+     */
+    public boolean awaitIdle(long timeout, @NotNull TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            while (count.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
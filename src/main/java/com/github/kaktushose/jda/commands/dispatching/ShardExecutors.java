@@ -0,0 +1,105 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Holds one single-threaded executor per JDA shard. Events of the same shard are processed in order on the same
+ * thread, while different shards are processed in parallel. Thus, mutable state that is partitioned by shard, like the
+ * cooldowns of the {@link com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter CooldownFilter},
+ * is only ever accessed by a single thread.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.dispatching.parser.ParserSupervisor#setShardExecutors(ShardExecutors)
+ * ParserSupervisor#setShardExecutors(ShardExecutors)
+ * @since 2.3.0
+ */
+public class ShardExecutors {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardExecutors.class);
+    private final Map<Integer, ExecutorService> executors;
+    private volatile boolean isShutdown;
+
+    /**
+     * Constructs a new ShardExecutors. The executors are created lazily on the first event of each shard.
+     */
+    public ShardExecutors() {
+        executors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Executes the given task on the executor of the given shard.
+     *
+     * @param shardId  the id of the shard
+     * @param runnable the task to execute
+     * @return {@code true} if the task was accepted, {@code false} if the executors are shut down
+     */
+    public boolean execute(int shardId, @NotNull Runnable runnable) {
+        if (isShutdown) {
+            log.debug("Rejected task of shard {}, the executors are shut down", shardId);
+            return false;
+        }
+        try {
+            executors.computeIfAbsent(shardId, this::createExecutor).execute(() -> {
+                try {
+                    runnable.run();
+                } catch (Exception e) {
+                    log.error("An error has occurred while processing an event of shard {}!", shardId, e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("Rejected task of shard {}, the executors are shut down", shardId);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the amount of shards an executor was created for.
+     *
+     * @return the amount of executors
+     */
+    public int size() {
+        return executors.size();
+    }
+
+    /**
+     * Shuts down all executors and waits for pending events to be processed.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the {@link TimeUnit} of the timeout
+     * @return {@code true} if all pending events were processed in time
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) {
+        isShutdown = true;
+        executors.values().forEach(ExecutorService::shutdown);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean terminated = true;
+        try {
+            for (ExecutorService executor : executors.values()) {
+                terminated &= executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (!terminated) {
+            log.warn("Pending events didn't complete in time!");
+        }
+        return terminated;
+    }
+
+    private ExecutorService createExecutor(int shardId) {
+        log.debug("Creating executor for shard {}", shardId);
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JDA-Commands-Shard-" + shardId);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
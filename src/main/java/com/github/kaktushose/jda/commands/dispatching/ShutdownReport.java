@@ -0,0 +1,79 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of the shutdown of a {@link CommandDispatcher}, reporting what couldn't be completed.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see CommandDispatcher#shutdown(long, java.util.concurrent.TimeUnit)
+ * @since 2.3.0
+ */
+public class ShutdownReport {
+
+    private final Duration duration;
+    private final int abandonedCommands;
+    private final List<String> failedResources;
+
+    /**
+     * Constructs a new ShutdownReport.
+     *
+     * @param duration          the time the shutdown took
+     * @param abandonedCommands the amount of commands that were still in-flight when the timeout elapsed
+     * @param failedResources   the class names of the resources that couldn't be flushed or closed
+     */
+    public ShutdownReport(Duration duration, int abandonedCommands, List<String> failedResources) {
+        this.duration = duration;
+        this.abandonedCommands = abandonedCommands;
+        this.failedResources = Collections.unmodifiableList(failedResources);
+    }
+
+    /**
+     * Gets the time the shutdown took.
+     *
+     * @return the time the shutdown took
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the amount of commands that were still in-flight, either running or waiting for execution, when the
+     * timeout elapsed.
+     *
+     * @return the amount of abandoned commands
+     */
+    public int getAbandonedCommands() {
+        return abandonedCommands;
+    }
+
+    /**
+     * Gets the class names of the resources that couldn't be flushed or closed.
+     *
+     * @return an unmodifiable list of class names
+     */
+    public List<String> getFailedResources() {
+        return failedResources;
+    }
+
+    /**
+     * Whether all commands completed and all resources were flushed and closed successfully.
+     *
+     * @return {@code true} if nothing was abandoned
+     */
+    public boolean isClean() {
+        return abandonedCommands == 0 && failedResources.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ShutdownReport{" +
+                "duration=" + duration.toMillis() + "ms" +
+                ", abandonedCommands=" + abandonedCommands +
+                ", failedResources=" + failedResources +
+                '}';
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.kaktushose.jda.commands.dispatching;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Timings of the startup of the framework. Each phase records its wall time, the bytes allocated by the starting
+ * thread and the amount of classes loaded during the phase. Work that is delegated to other threads, e.g. the parallel
+ * building of controllers, is included in the wall time but not in the allocated bytes.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.JDACommands#getStartupReport() JDACommands#getStartupReport()
+ * @since 2.3.0
+ */
+public class StartupReport {
+
+    /**
+     * Phase building the {@link com.github.kaktushose.jda.commands.reflect.ClassIndex ClassIndex}, this includes the
+     * classpath scan for controllers.
+     */
+    public static final String CLASS_INDEX = "class index";
+    /**
+     * Phase indexing the dependency producers.
+     */
+    public static final String DEPENDENCY_INDEXING = "dependency indexing";
+    /**
+     * Phase indexing the custom implementations.
+     */
+    public static final String IMPLEMENTATION_INDEXING = "implementation indexing";
+    /**
+     * Phase building the controller and command definitions.
+     */
+    public static final String DEFINITION_BUILDING = "definition building";
+    /**
+     * Phase injecting the dependencies.
+     */
+    public static final String INJECTION = "injection";
+    private final List<Phase> phases;
+
+    private StartupReport(List<Phase> phases) {
+        this.phases = Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * Gets all recorded phases in the order they were executed.
+     *
+     * @return an unmodifiable list of all {@link Phase Phases}
+     */
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Gets a phase by its name.
+     *
+     * @param name the name of the phase
+     * @return an {@link Optional} holding the {@link Phase}
+     */
+    public Optional<Phase> getPhase(@NotNull String name) {
+        return phases.stream().filter(phase -> phase.getName().equals(name)).findFirst();
+    }
+
+    /**
+     * Gets the total wall time of all phases.
+     *
+     * @return the total {@link Duration}
+     */
+    public Duration getTotalDuration() {
+        return phases.stream().map(Phase::getDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Startup took ").append(getTotalDuration().toMillis()).append("ms");
+        for (Phase phase : phases) {
+            builder.append(System.lineSeparator()).append("  ").append(phase);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A single phase of the startup.
+     */
+    public static class Phase {
+
+        private final String name;
+        private final Duration duration;
+        private final long allocatedBytes;
+        private final long loadedClasses;
+
+        private Phase(String name, Duration duration, long allocatedBytes, long loadedClasses) {
+            this.name = name;
+            this.duration = duration;
+            this.allocatedBytes = allocatedBytes;
+            this.loadedClasses = loadedClasses;
+        }
+
+        /**
+         * Gets the name of the phase.
+         *
+         * @return the name of the phase
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the wall time of the phase.
+         *
+         * @return the wall time of the phase
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Gets the bytes allocated by the starting thread during the phase.
+         *
+         * @return the allocated bytes or {@code -1} if the JVM doesn't support allocation measurement
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * Gets the amount of classes loaded during the phase.
+         *
+         * @return the amount of loaded classes
+         */
+        public long getLoadedClasses() {
+            return loadedClasses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %dms, %s allocated, %d classes loaded", name, duration.toMillis(),
+                    allocatedBytes < 0 ? "unknown bytes" : allocatedBytes / 1024 + "KiB", loadedClasses);
+        }
+    }
+
+    /**
+     * Records the phases of a startup.
+     */
+    public static class Recorder {
+
+        private final List<Phase> phases = new ArrayList<>();
+        private final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        /**
+         * Executes and records a phase.
+         *
+         * @param name     the name of the phase
+         * @param runnable the phase to execute
+         */
+        public void record(@NotNull String name, @NotNull Runnable runnable) {
+            record(name, () -> {
+                runnable.run();
+                return null;
+            });
+        }
+
+        /**
+         * Executes and records a phase.
+         *
+         * @param name     the name of the phase
+         * @param supplier the phase to execute
+         * @param <T>      the result type of the phase
+         * @return the result of the phase
+         */
+        public <T> T record(@NotNull String name, @NotNull Supplier<T> supplier) {
+            long classes = classLoading.getTotalLoadedClassCount();
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                Duration duration = Duration.ofNanos(System.nanoTime() - start);
+                long allocated = bytes < 0 ? -1 : allocatedBytes() - bytes;
+                phases.add(new Phase(name, duration, allocated, classLoading.getTotalLoadedClassCount() - classes));
+            }
+        }
+
+        /**
+         * Creates the {@link StartupReport} of all recorded phases.
+         *
+         * @return the {@link StartupReport}
+         */
+        public StartupReport build() {
+            return new StartupReport(new ArrayList<>(phases));
+        }
+
+        private long allocatedBytes() {
+            // com.sun.management is not available on every JVM
+            try {
+                if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+                    return -1;
+                }
+                com.sun.management.ThreadMXBean mxBean = (com.sun.management.ThreadMXBean) threads;
+                if (!mxBean.isThreadAllocatedMemorySupported() || !mxBean.isThreadAllocatedMemoryEnabled()) {
+                    return -1;
+                }
+                return mxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            } catch (LinkageError | UnsupportedOperationException e) {
+                return -1;
+            }
+        }
+    }
+}
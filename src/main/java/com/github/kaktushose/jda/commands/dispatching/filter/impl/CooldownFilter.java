@@ -9,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link Filter} implementation that contains the business logic behind command cooldowns.
@@ -16,18 +17,28 @@ import java.util.*;
  * formally if the {@link CommandDefinition} doesn't hold a {@link CooldownDefinition} or the delay of the
  * {@link CooldownDefinition} amounts to {@code 0} this filter has no effect.
  *
+ * <p>The cooldowns of all users are kept in one shared map, thus a cooldown applies regardless of the shard the event
+ * was received on. The entries of a user are guarded by one of several locks striped by the user id, thus events of
+ * different users rarely contend, even if they are dispatched in parallel.
+ *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see com.github.kaktushose.jda.commands.annotations.Cooldown
  * @since 2.0.0
  */
 public class CooldownFilter implements Filter {
 
     private static final Logger log = LoggerFactory.getLogger(CooldownFilter.class);
+    private static final int LOCK_STRIPES = 64;
     private final Map<Long, Set<CooldownEntry>> activeCooldowns;
+    private final Object[] locks;
 
     public CooldownFilter() {
-        activeCooldowns = new HashMap<>();
+        activeCooldowns = new ConcurrentHashMap<>();
+        locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
     }
 
     /**
@@ -45,29 +56,30 @@ public class CooldownFilter implements Filter {
         }
 
         long id = context.getEvent().getAuthor().getIdLong();
-
-        activeCooldowns.putIfAbsent(id, new HashSet<>());
-
-        Optional<CooldownEntry> optional = activeCooldowns.get(id).stream().filter(entry -> entry.command.equals(command)).findFirst();
-
-        if (optional.isPresent()) {
-            CooldownEntry entry = optional.get();
-            long remaining = entry.duration - (System.currentTimeMillis() - entry.startTime);
-            if (remaining <= 0) {
-                activeCooldowns.get(id).remove(entry);
-            } else {
-                context.setCancelled(true);
-                context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, remaining));
-                log.debug("Command has a remaining cooldown of {} ms!", remaining);
-                return;
+        Set<CooldownEntry> entries = activeCooldowns.computeIfAbsent(id, key -> new HashSet<>());
+
+        synchronized (locks[(int) Math.floorMod(id, (long) LOCK_STRIPES)]) {
+            Optional<CooldownEntry> optional = entries.stream().filter(entry -> entry.command.equals(command)).findFirst();
+
+            if (optional.isPresent()) {
+                CooldownEntry entry = optional.get();
+                long remaining = entry.duration - (System.currentTimeMillis() - entry.startTime);
+                if (remaining <= 0) {
+                    entries.remove(entry);
+                } else {
+                    context.setCancelled(true);
+                    context.setErrorMessage(context.getImplementationRegistry().getErrorMessageFactory().getCooldownMessage(context, remaining));
+                    log.debug("Command has a remaining cooldown of {} ms!", remaining);
+                    return;
+                }
             }
-        }
 
-        CooldownDefinition cooldown = command.getCooldown();
-        long startTime = System.currentTimeMillis();
-        long duration = cooldown.getTimeUnit().toMillis(cooldown.getDelay());
-        activeCooldowns.get(id).add(new CooldownEntry(command, startTime, duration));
-        log.debug("Added new cooldown entry for this user");
+            CooldownDefinition cooldown = command.getCooldown();
+            long startTime = System.currentTimeMillis();
+            long duration = cooldown.getTimeUnit().toMillis(cooldown.getDelay());
+            entries.add(new CooldownEntry(command, startTime, duration));
+            log.debug("Added new cooldown entry for this user");
+        }
     }
 
     private static class CooldownEntry {
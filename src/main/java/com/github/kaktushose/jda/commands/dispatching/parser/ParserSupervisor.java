@@ -2,23 +2,31 @@ package com.github.kaktushose.jda.commands.dispatching.parser;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandDispatcher;
+import com.github.kaktushose.jda.commands.dispatching.InFlightTracker;
+import com.github.kaktushose.jda.commands.dispatching.ShardExecutors;
 import com.github.kaktushose.jda.commands.dispatching.parser.impl.DefaultMessageParser;
 import com.github.kaktushose.jda.commands.dispatching.sender.MessageSender;
 import net.dv8tion.jda.api.events.GenericEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Registry for {@link Parser Parsers}. This is also the event listener that will call the corresponding parser.
  *
+ * <p>By default, events are processed on the event thread of JDA. If {@link ShardExecutors} are set, events are handed
+ * off to the executor of the shard they were received on. Events are only admitted while the
+ * {@link InFlightTracker} of the {@link CommandDispatcher} is open.
+ *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see Parser
  * @since 2.0.0
  */
@@ -27,6 +35,7 @@ public class ParserSupervisor extends ListenerAdapter {
     private static final Logger log = LoggerFactory.getLogger(ParserSupervisor.class);
     private final CommandDispatcher dispatcher;
     private final Map<Class<? extends GenericEvent>, Parser<? extends GenericEvent>> listeners;
+    private volatile ShardExecutors shardExecutors;
 
     /**
      * Constructs a new ParserSupervisor.
@@ -71,6 +80,49 @@ public class ParserSupervisor extends ListenerAdapter {
         if (!listeners.containsKey(event.getClass())) {
             return;
         }
+        InFlightTracker tracker = dispatcher.getInFlightTracker();
+        if (!tracker.tryEnter()) {
+            log.debug("Rejected {}, the dispatcher is shutting down", event.getClass().getSimpleName());
+            return;
+        }
+        Runnable task = () -> {
+            try {
+                handle(event);
+            } finally {
+                tracker.exit();
+            }
+        };
+        ShardExecutors executors = shardExecutors;
+        if (executors == null) {
+            task.run();
+            return;
+        }
+        if (!executors.execute(event.getJDA().getShardInfo().getShardId(), task)) {
+            tracker.exit();
+        }
+    }
+
+    /**
+     * Gets the {@link ShardExecutors} events are handed off to.
+     *
+     * @return an {@link Optional} holding the {@link ShardExecutors} or an empty {@link Optional} if events are
+     * processed on the event thread of JDA
+     */
+    public Optional<ShardExecutors> getShardExecutors() {
+        return Optional.ofNullable(shardExecutors);
+    }
+
+    /**
+     * Sets the {@link ShardExecutors} events are handed off to.
+     *
+     * @param shardExecutors the {@link ShardExecutors} to use or {@code null} to process events on the event thread of
+     *                       JDA
+     */
+    public void setShardExecutors(@Nullable ShardExecutors shardExecutors) {
+        this.shardExecutors = shardExecutors;
+    }
+
+    private void handle(GenericEvent event) {
         log.debug("Received {}", event.getClass().getSimpleName());
         Parser<?> parser = listeners.get(event.getClass());
         log.debug("Calling {}", parser.getClass().getName());
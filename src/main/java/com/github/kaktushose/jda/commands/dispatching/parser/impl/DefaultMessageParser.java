@@ -6,6 +6,7 @@ import com.github.kaktushose.jda.commands.dispatching.parser.Parser;
 import com.github.kaktushose.jda.commands.embeds.error.ErrorMessageFactory;
 import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
 import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
 import net.dv8tion.jda.api.entities.ChannelType;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
@@ -14,14 +15,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * An implementation of {@link Parser} that can parse {@link MessageReceivedEvent MessageReceivedEvents}.
- * This parser will work within the limitations given by the {@link GuildSettings}.
+ * This parser will work within the limitations given by the {@link GuildSettings}. All settings are read from the
+ * {@link SettingsSnapshot} captured by the {@link CommandContext}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
@@ -47,17 +48,18 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
                 .setSettings(settings)
                 .setJdaCommands(dispatcher.getJdaCommands())
                 .setImplementationRegistry(registry);
+        SettingsSnapshot snapshot = context.getSettingsSnapshot();
 
-        if (event.getAuthor().isBot() && settings.isIgnoreBots()) {
+        if (event.getAuthor().isBot() && snapshot.isIgnoreBots()) {
             return context.setCancelled(true);
         }
 
-        if (settings.isMutedGuild()) {
+        if (snapshot.isMutedGuild()) {
             context.setErrorMessage(errorMessageFactory.getGuildMutedMessage(context));
             return context.setCancelled(true);
         }
 
-        if (settings.getMutedChannels().contains(event.getChannel().getIdLong())) {
+        if (snapshot.isMutedChannel(event.getChannel().getIdLong())) {
             context.setErrorMessage(errorMessageFactory.getChannelMutedMessage(context));
             return context.setCancelled(true);
         }
@@ -68,11 +70,11 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
             contentRaw = contentRaw.replaceAll(" {2}", " ");
         }
 
-        if (!contentRaw.startsWith(settings.getPrefix())) {
+        if (!snapshot.startsWithPrefix(contentRaw)) {
             return context.setCancelled(true);
         }
 
-        contentRaw = contentRaw.replaceFirst(Pattern.quote(settings.getPrefix()), "").trim();
+        contentRaw = contentRaw.substring(snapshot.getPrefix().length()).trim();
         String[] input = contentRaw.split(" ");
 
         /*
@@ -81,7 +83,7 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
          *
          * @author stijnb1234
          */
-        if (settings.isParseQuotes()) {
+        if (snapshot.isParseQuotes()) {
             StringBuilder builder = new StringBuilder();
             boolean isQuote = false;
             char[] chars = contentRaw.toCharArray();
@@ -110,7 +112,7 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
             input = arguments.toArray(new String[0]);
         }
 
-        if (isHelpLabel(context, input[0])) {
+        if (snapshot.isHelpLabel(input[0])) {
             context.setInput(Arrays.copyOfRange(input, 1, input.length));
             context.setHelpEvent(true);
         } else {
@@ -119,51 +121,4 @@ public class DefaultMessageParser extends Parser<MessageReceivedEvent> {
 
         return context;
     }
-
-    private boolean isHelpLabel(CommandContext context, String input) {
-        for (int i = 0; i < context.getSettings().getMaxDistance(); i++) {
-            if (findHelpLabel(context, input, i)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean findHelpLabel(CommandContext context, String input, int maxDistance) {
-        if (maxDistance == 0) {
-            return context.getSettings().getHelpLabels().stream().anyMatch(label -> label.startsWith(input));
-        }
-        return context.getSettings().getHelpLabels().stream().anyMatch(
-                label -> calculateLevenshteinDistance(label, input) <= maxDistance
-        );
-    }
-
-    private int calculateLevenshteinDistance(String first, String second) {
-        int[][] dp = new int[first.length() + 1][second.length() + 1];
-        for (int i = 0; i <= first.length(); i++) {
-            for (int j = 0; j <= second.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = min(
-                            dp[i - 1][j - 1] + costOfSubstitution(first.charAt(i - 1), second.charAt(j - 1)),
-                            dp[i - 1][j] + 1,
-                            dp[i][j - 1] + 1
-                    );
-                }
-            }
-        }
-        return dp[first.length()][second.length()];
-    }
-
-    private int costOfSubstitution(char a, char b) {
-        return a == b ? 0 : 1;
-    }
-
-    private int min(int... numbers) {
-        return Arrays.stream(numbers).min().orElse(Integer.MAX_VALUE);
-    }
-
 }
@@ -23,7 +23,7 @@ public class CommandRouter implements Router {
 
     @Override
     public void findCommands(@NotNull CommandContext context, @NotNull Collection<CommandDefinition> commands) {
-        for (int i = 0; i < context.getSettings().getMaxDistance(); i++) {
+        for (int i = 0; i < context.getSettingsSnapshot().getMaxDistance(); i++) {
             if (findCommand(context, commands, i)) {
                 return;
             }
@@ -63,7 +63,7 @@ public class CommandRouter implements Router {
                                 return false;
                             }
 
-                            boolean ignoreCase = context.getSettings().isIgnoreCase();
+                            boolean ignoreCase = context.getSettingsSnapshot().isIgnoreCase();
                             String expected = ignoreCase ? expectedLabels[k].toUpperCase() : expectedLabels[k];
                             String actual = ignoreCase ? actualLabels[k].toUpperCase() : actualLabels[k];
                             if (maxDistance == 0) {
@@ -0,0 +1,36 @@
+package com.github.kaktushose.jda.commands.dispatching.sender.impl;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.embeds.help.HelpPaginator;
+import net.dv8tion.jda.api.entities.Message;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Subtype of {@link DefaultMessageSender} that registers every sent generic help message at a {@link HelpPaginator},
+ * thus users can navigate through the pages of the help.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see HelpPaginator
+ * @since 2.3.0
+ */
+public class PaginatedMessageSender extends DefaultMessageSender {
+
+    private final HelpPaginator paginator;
+
+    /**
+     * Constructs a new PaginatedMessageSender.
+     *
+     * @param paginator the {@link HelpPaginator} to register the generic help messages at
+     */
+    public PaginatedMessageSender(@NotNull HelpPaginator paginator) {
+        this.paginator = paginator;
+    }
+
+    @Override
+    public void sendGenericHelpMessage(@NotNull CommandContext context, @NotNull Message message) {
+        context.getEvent().getChannel().sendMessage(message).queue(sent ->
+                paginator.track(sent, context.getRegistrySnapshot().getControllers(), context)
+        );
+    }
+}
@@ -1,36 +1,32 @@
 package com.github.kaktushose.jda.commands.embeds;
 
-import com.google.common.reflect.TypeToken;
-import com.google.gson.Gson;
-import com.google.gson.JsonIOException;
-import com.google.gson.JsonSyntaxException;
 import com.google.gson.stream.JsonReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import java.io.*;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This class loads and caches embeds from a json file.
+ * This class loads and caches embeds from a json file. Every embed is also compiled to an {@link EmbedTemplate} when
+ * it gets loaded, use {@link #getTemplate(String)} to render embeds without copying them.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.1.0
  */
 public class EmbedCache {
 
     private static final Logger log = LoggerFactory.getLogger(EmbedCache.class);
-    private static final Gson gson = new Gson();
+    private static final EmbedDTOTypeAdapter adapter = new EmbedDTOTypeAdapter();
     private final File file;
     private final InputStream stream;
-    private Map<String, EmbedDTO> embedMap;
+    private volatile Map<String, EmbedDTO> embedMap;
+    private volatile Map<String, EmbedTemplate> templateMap;
 
     /**
      * Constructs a new EmbedCache object.
@@ -39,6 +35,7 @@ public class EmbedCache {
      */
     public EmbedCache(File file) {
         embedMap = new ConcurrentHashMap<>();
+        templateMap = new ConcurrentHashMap<>();
         this.file = file;
         this.stream = null;
     }
@@ -50,6 +47,7 @@ public class EmbedCache {
      */
     public EmbedCache(InputStream stream) {
         embedMap = new ConcurrentHashMap<>();
+        templateMap = new ConcurrentHashMap<>();
         this.stream = stream;
         this.file = null;
     }
@@ -61,36 +59,111 @@ public class EmbedCache {
      */
     public EmbedCache(String file) {
         embedMap = new ConcurrentHashMap<>();
+        templateMap = new ConcurrentHashMap<>();
         this.file = new File(file);
         this.stream = null;
     }
 
     /**
-     * Loads all embeds from a file and caches them.
+     * Loads all embeds from a file and caches them. The embeds are read one by one, thus the whole json document
+     * doesn't need to be held in memory.
      */
-    @SuppressWarnings("UnstableApiUsage")
     public void loadEmbedsToCache() {
+        Reader reader;
         try {
-            Reader reader;
             if (file != null) {
-                reader = new FileReader(file);
+                reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
             } else if (stream != null) {
-                reader = new InputStreamReader(stream);
+                reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
             } else {
                 throw new IllegalArgumentException("File and stream are null!");
             }
+        } catch (FileNotFoundException e) {
+            log.error("An error has occurred while loading the file!", e);
+            return;
+        }
+        Map<String, EmbedDTO> loaded = read(reader);
+        if (loaded != null) {
+            Map<String, EmbedTemplate> templates = new ConcurrentHashMap<>();
+            loaded.forEach((name, embed) -> compile(name, embed, templates));
+            templateMap = templates;
+            embedMap = loaded;
+        }
+    }
 
-            JsonReader jsonReader = new JsonReader(reader);
-            Type type = new TypeToken<Map<String, EmbedDTO>>() {
-            }.getType();
-            embedMap = gson.fromJson(jsonReader, type);
-        } catch (FileNotFoundException | JsonIOException | JsonSyntaxException e) {
+    /**
+     * Reloads the embeds from the file and swaps only the embeds that have changed. Embeds that were removed from the
+     * file are removed from the cache. Each embed is replaced atomically, thus the cache stays usable during the reload.
+     * This is only supported if the cache was constructed with a file.
+     *
+     * @return the names of all embeds that were added, changed or removed
+     * @throws IllegalStateException if the cache was constructed with a stream
+     */
+    public Set<String> reload() {
+        if (file == null) {
+            throw new IllegalStateException("Only file based caches can be reloaded!");
+        }
+        Map<String, EmbedDTO> loaded;
+        try {
+            loaded = read(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+        } catch (FileNotFoundException e) {
+            log.error("An error has occurred while reloading the file!", e);
+            return Collections.emptySet();
+        }
+        if (loaded == null) {
+            return Collections.emptySet();
+        }
+        Set<String> changed = new HashSet<>();
+        loaded.forEach((name, embed) -> {
+            EmbedDTO current = embedMap.get(name);
+            if (current == null || !adapter.toJson(current).equals(adapter.toJson(embed))) {
+                compile(name, embed, templateMap);
+                embedMap.put(name, embed);
+                changed.add(name);
+            }
+        });
+        for (String name : new ArrayList<>(embedMap.keySet())) {
+            if (!loaded.containsKey(name)) {
+                embedMap.remove(name);
+                templateMap.remove(name);
+                changed.add(name);
+            }
+        }
+        log.debug("Reloaded embeds, {} changed", changed.size());
+        return changed;
+    }
+
+    private Map<String, EmbedDTO> read(Reader reader) {
+        try (JsonReader jsonReader = new JsonReader(new BufferedReader(reader))) {
+            Map<String, EmbedDTO> loaded = new ConcurrentHashMap<>();
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                EmbedDTO embed = adapter.read(jsonReader);
+                if (embed != null) {
+                    loaded.put(name, embed);
+                }
+            }
+            jsonReader.endObject();
+            return loaded;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
             log.error("An error has occurred while loading the file!", e);
+            return null;
+        }
+    }
+
+    private void compile(String name, EmbedDTO embed, Map<String, EmbedTemplate> templates) {
+        try {
+            templates.put(name, EmbedTemplate.compile(embed));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            templates.remove(name);
+            log.error(String.format("Unable to compile embed %s!", name), e);
         }
     }
 
     /**
-     * Gets an embed from the cache.
+     * Gets an embed from the cache. The returned {@link EmbedDTO} is a deep copy, thus it can be modified safely. Prefer
+     * {@link #getTemplate(String)} if the embed only needs placeholders to be injected.
      *
      * @param name the name the {@link EmbedDTO} is mapped to
      * @return the {@link EmbedDTO} or {@code null} if the cache contains no mapping for the key
@@ -99,6 +172,17 @@ public class EmbedCache {
         return new EmbedDTO(embedMap.get(name));
     }
 
+    /**
+     * Gets the compiled {@link EmbedTemplate} of an embed from the cache.
+     *
+     * @param name the name the {@link EmbedDTO} is mapped to
+     * @return the {@link EmbedTemplate} or {@code null} if the cache contains no mapping for the key or the embed
+     * couldn't be compiled
+     */
+    public EmbedTemplate getTemplate(@Nonnull String name) {
+        return templateMap.get(name);
+    }
+
     /**
      * Returns {@code true} if this cache contains no {@link EmbedDTO}s.
      *
@@ -0,0 +1,186 @@
+package com.github.kaktushose.jda.commands.embeds;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written {@link TypeAdapter} for {@link EmbedDTO}. Produces the same json as Gson's reflective adapter but
+ * doesn't need any reflection at runtime. Unknown properties are skipped.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see EmbedCache
+ * @since 2.3.0
+ */
+public class EmbedDTOTypeAdapter extends TypeAdapter<EmbedDTO> {
+
+    @Override
+    public void write(JsonWriter out, EmbedDTO embed) throws IOException {
+        if (embed == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("title").value(embed.getTitle());
+        out.name("description").value(embed.getDescription());
+        out.name("url").value(embed.getUrl());
+        out.name("color").value(embed.getColor());
+        out.name("timestamp").value(embed.getTimestamp());
+        if (embed.getFooter() != null) {
+            out.name("footer").beginObject();
+            out.name("iconUrl").value(embed.getFooter().getIconUrl());
+            out.name("text").value(embed.getFooter().getText());
+            out.endObject();
+        }
+        if (embed.getThumbnail() != null) {
+            out.name("thumbnail").beginObject();
+            out.name("url").value(embed.getThumbnail().getUrl());
+            out.endObject();
+        }
+        if (embed.getImage() != null) {
+            out.name("image").beginObject();
+            out.name("url").value(embed.getImage().getUrl());
+            out.endObject();
+        }
+        if (embed.getAuthor() != null) {
+            out.name("author").beginObject();
+            out.name("name").value(embed.getAuthor().getName());
+            out.name("url").value(embed.getAuthor().getUrl());
+            out.name("iconUrl").value(embed.getAuthor().getIconUrl());
+            out.endObject();
+        }
+        if (embed.getFields() != null) {
+            out.name("fields").beginArray();
+            for (EmbedDTO.Field field : embed.getFields()) {
+                out.beginObject();
+                out.name("name").value(field.getName());
+                out.name("value").value(field.getValue());
+                out.name("inline").value(field.isInline());
+                out.endObject();
+            }
+            out.endArray();
+        }
+        out.endObject();
+    }
+
+    @Override
+    public EmbedDTO read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        EmbedDTO embed = new EmbedDTO();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "title":
+                    embed.setTitle(in.nextString());
+                    break;
+                case "description":
+                    embed.setDescription(in.nextString());
+                    break;
+                case "url":
+                    embed.setUrl(in.nextString());
+                    break;
+                case "color":
+                    embed.setColor(in.nextString());
+                    break;
+                case "timestamp":
+                    embed.setTimestamp(in.nextString());
+                    break;
+                case "footer":
+                    String[] footer = readObject(in, "iconUrl", "text");
+                    embed.setFooter(new EmbedDTO.Footer(footer[0], footer[1]));
+                    break;
+                case "thumbnail":
+                    embed.setThumbnail(new EmbedDTO.Thumbnail(readObject(in, "url")[0]));
+                    break;
+                case "image":
+                    embed.setImage(new EmbedDTO.Image(readObject(in, "url")[0]));
+                    break;
+                case "author":
+                    String[] author = readObject(in, "name", "url", "iconUrl");
+                    embed.setAuthor(new EmbedDTO.Author(author[0], author[1], author[2]));
+                    break;
+                case "fields":
+                    embed.setFields(readFields(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return embed;
+    }
+
+    private String[] readObject(JsonReader in, String... names) throws IOException {
+        String[] values = new String[names.length];
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            int index = indexOf(names, name);
+            if (index < 0 || in.peek() == JsonToken.NULL) {
+                in.skipValue();
+                continue;
+            }
+            values[index] = in.nextString();
+        }
+        in.endObject();
+        return values;
+    }
+
+    private EmbedDTO.Field[] readFields(JsonReader in) throws IOException {
+        List<EmbedDTO.Field> fields = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            String name = null;
+            String value = null;
+            boolean inline = false;
+            in.beginObject();
+            while (in.hasNext()) {
+                String property = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (property) {
+                    case "name":
+                        name = in.nextString();
+                        break;
+                    case "value":
+                        value = in.nextString();
+                        break;
+                    case "inline":
+                        inline = in.nextBoolean();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            fields.add(new EmbedDTO.Field(name, value, inline));
+        }
+        in.endArray();
+        return fields.toArray(new EmbedDTO.Field[0]);
+    }
+
+    private int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,235 @@
+package com.github.kaktushose.jda.commands.embeds;
+
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.MessageBuilder;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.Color;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Compiled form of an {@link EmbedDTO}. All {@code {placeholders}} are located once when the template is compiled,
+ * thus rendering the template only concatenates the literal segments with the given values. Unlike
+ * {@link EmbedDTO#injectValue(String, Object)} this neither uses regular expressions nor copies the embed.
+ *
+ * <p>Placeholders without a value are kept as they are, e.g. {@code {name}}. Properties without any placeholder, as
+ * well as static colors and timestamps, are resolved at compile time. Templates are immutable and can be rendered
+ * concurrently.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see EmbedCache#getTemplate(String)
+ * @since 2.3.0
+ */
+public final class EmbedTemplate {
+
+    private final Text title;
+    private final Text description;
+    private final Text url;
+    private final Text color;
+    private final Color staticColor;
+    private final Text timestamp;
+    private final ZonedDateTime staticTimestamp;
+    private final Text footerText;
+    private final Text footerIconUrl;
+    private final Text thumbnailUrl;
+    private final Text imageUrl;
+    private final Text authorName;
+    private final Text authorUrl;
+    private final Text authorIconUrl;
+    private final Text[] fieldNames;
+    private final Text[] fieldValues;
+    private final boolean[] fieldInline;
+    private final Set<String> placeholders;
+
+    private EmbedTemplate(EmbedDTO embed) {
+        Set<String> names = new LinkedHashSet<>();
+        title = Text.compile(embed.getTitle(), names);
+        description = Text.compile(embed.getDescription(), names);
+        url = Text.compile(embed.getUrl(), names);
+        color = Text.compile(embed.getColor(), names);
+        staticColor = color != null && color.isStatic() ? Color.decode(color.render(null)) : null;
+        timestamp = Text.compile(embed.getTimestamp(), names);
+        staticTimestamp = timestamp != null && timestamp.isStatic() ? ZonedDateTime.parse(timestamp.render(null)) : null;
+        EmbedDTO.Footer footer = embed.getFooter();
+        footerText = footer == null ? null : Text.compile(footer.getText(), names);
+        footerIconUrl = footer == null ? null : Text.compile(footer.getIconUrl(), names);
+        thumbnailUrl = embed.getThumbnail() == null ? null : Text.compile(embed.getThumbnail().getUrl(), names);
+        imageUrl = embed.getImage() == null ? null : Text.compile(embed.getImage().getUrl(), names);
+        EmbedDTO.Author author = embed.getAuthor();
+        authorName = author == null ? null : Text.compile(author.getName(), names);
+        authorUrl = author == null ? null : Text.compile(author.getUrl(), names);
+        authorIconUrl = author == null ? null : Text.compile(author.getIconUrl(), names);
+        EmbedDTO.Field[] fields = embed.getFields() == null ? new EmbedDTO.Field[0] : embed.getFields();
+        fieldNames = new Text[fields.length];
+        fieldValues = new Text[fields.length];
+        fieldInline = new boolean[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            fieldNames[i] = Text.compile(fields[i].getName(), names);
+            fieldValues[i] = Text.compile(fields[i].getValue(), names);
+            fieldInline[i] = fields[i].isInline();
+        }
+        placeholders = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Compiles the given {@link EmbedDTO} to an EmbedTemplate.
+     *
+     * @param embed the {@link EmbedDTO} to compile
+     * @return the compiled EmbedTemplate
+     * @throws NumberFormatException                   if the color is static and invalid
+     * @throws java.time.format.DateTimeParseException if the timestamp is static and invalid
+     */
+    public static EmbedTemplate compile(@NotNull EmbedDTO embed) {
+        return new EmbedTemplate(embed);
+    }
+
+    /**
+     * Gets the names of all placeholders this template contains.
+     *
+     * @return an unmodifiable set of all placeholder names
+     */
+    public Set<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Renders this template to an {@link EmbedBuilder}. Use this if the embed needs to be modified afterwards.
+     *
+     * @param values a Map with all values to inject. Key: name of the placeholder. Value: the value to inject
+     * @return the rendered {@link EmbedBuilder}
+     */
+    public EmbedBuilder toEmbedBuilder(@Nullable Map<String, ?> values) {
+        EmbedBuilder builder = new EmbedBuilder();
+        if (title != null) {
+            builder.setTitle(title.render(values), url == null ? null : url.render(values));
+        }
+        if (description != null) {
+            builder.setDescription(description.render(values));
+        }
+        if (staticColor != null) {
+            builder.setColor(staticColor);
+        } else if (color != null) {
+            builder.setColor(Color.decode(color.render(values)));
+        }
+        if (staticTimestamp != null) {
+            builder.setTimestamp(staticTimestamp);
+        } else if (timestamp != null) {
+            builder.setTimestamp(ZonedDateTime.parse(timestamp.render(values)));
+        }
+        if (footerText != null || footerIconUrl != null) {
+            builder.setFooter(render(footerText, values), render(footerIconUrl, values));
+        }
+        if (thumbnailUrl != null) {
+            builder.setThumbnail(thumbnailUrl.render(values));
+        }
+        if (imageUrl != null) {
+            builder.setImage(imageUrl.render(values));
+        }
+        if (authorName != null || authorUrl != null || authorIconUrl != null) {
+            builder.setAuthor(render(authorName, values), render(authorUrl, values), render(authorIconUrl, values));
+        }
+        for (int i = 0; i < fieldNames.length; i++) {
+            builder.addField(render(fieldNames[i], values), render(fieldValues[i], values), fieldInline[i]);
+        }
+        return builder;
+    }
+
+    /**
+     * Renders this template to a {@link MessageEmbed}.
+     *
+     * @param values a Map with all values to inject. Key: name of the placeholder. Value: the value to inject
+     * @return the rendered {@link MessageEmbed}
+     */
+    public MessageEmbed render(@Nullable Map<String, ?> values) {
+        return toEmbedBuilder(values).build();
+    }
+
+    /**
+     * Renders this template to a {@link Message}.
+     *
+     * @param values a Map with all values to inject. Key: name of the placeholder. Value: the value to inject
+     * @return the rendered {@link Message}
+     */
+    public Message toMessage(@Nullable Map<String, ?> values) {
+        return new MessageBuilder().setEmbeds(render(values)).build();
+    }
+
+    private static String render(@Nullable Text text, @Nullable Map<String, ?> values) {
+        return text == null ? null : text.render(values);
+    }
+
+    /**
+     * A string split into literal segments and placeholders. The segments alternate, starting and ending with a
+     * literal, thus {@code segments[i]} is a placeholder name for every odd {@code i}.
+     */
+    private static final class Text {
+
+        private final String[] segments;
+        private final String value;
+
+        private Text(String[] segments, String value) {
+            this.segments = segments;
+            this.value = value;
+        }
+
+        private static Text compile(@Nullable String input, Set<String> names) {
+            if (input == null) {
+                return null;
+            }
+            List<String> segments = new ArrayList<>();
+            int literalStart = 0;
+            int open = input.indexOf('{');
+            while (open >= 0) {
+                int close = input.indexOf('}', open + 1);
+                if (close < 0) {
+                    break;
+                }
+                int nestedOpen = input.lastIndexOf('{', close);
+                if (nestedOpen > open) {
+                    // "{{name}" only treats the innermost brace as the start of the placeholder
+                    open = nestedOpen;
+                }
+                segments.add(input.substring(literalStart, open));
+                String name = input.substring(open + 1, close);
+                segments.add(name);
+                names.add(name);
+                literalStart = close + 1;
+                open = input.indexOf('{', literalStart);
+            }
+            if (segments.isEmpty()) {
+                return new Text(null, input);
+            }
+            segments.add(input.substring(literalStart));
+            return new Text(segments.toArray(new String[0]), input);
+        }
+
+        private boolean isStatic() {
+            return segments == null;
+        }
+
+        private String render(@Nullable Map<String, ?> values) {
+            if (segments == null || values == null || values.isEmpty()) {
+                return value;
+            }
+            StringBuilder builder = new StringBuilder(value.length() + 16);
+            for (int i = 0; i < segments.length; i++) {
+                if ((i & 1) == 0) {
+                    builder.append(segments[i]);
+                    continue;
+                }
+                String name = segments[i];
+                if (values.containsKey(name)) {
+                    builder.append(values.get(name));
+                } else {
+                    builder.append('{').append(name).append('}');
+                }
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.kaktushose.jda.commands.embeds;
+
+import net.dv8tion.jda.api.entities.Message;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches rendered {@link Message Messages} that only depend on a few inputs, e.g. the guild prefix. A message is
+ * identified by its kind and the inputs it was rendered from, thus changed inputs, such as a new prefix, never hit a
+ * stale message.
+ *
+ * <p>Each kind can additionally be bound to a source, e.g. the {@link EmbedTemplate} the message is rendered from.
+ * If the source of a kind changes, all messages of that kind get discarded. Sources are compared by identity. Each
+ * kind holds up to {@link #getMaximumSize()} messages and is cleared entirely if this limit is exceeded.
+ *
+ * <p>This class is thread-safe. Concurrent misses might render the same message twice.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class MessageCache {
+
+    /**
+     * The default amount of messages that are cached per kind.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    private final Map<String, Slot> slots;
+    private final int maximumSize;
+
+    /**
+     * Constructs a new MessageCache holding up to {@value DEFAULT_MAXIMUM_SIZE} messages per kind.
+     */
+    public MessageCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructs a new MessageCache.
+     *
+     * @param maximumSize the amount of messages that are cached per kind
+     */
+    public MessageCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1!");
+        }
+        this.maximumSize = maximumSize;
+        slots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the amount of messages that are cached per kind.
+     *
+     * @return the amount of messages that are cached per kind
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets a message from the cache or renders and caches it, if no message is cached for the given inputs.
+     *
+     * @param kind     the kind of the message, e.g. {@code commandNotFound}
+     * @param source   the source the message is rendered from or {@code null}
+     * @param renderer the {@link Supplier} rendering the message
+     * @param inputs   all values the message depends on
+     * @return the cached or rendered {@link Message}
+     */
+    public Message get(@NotNull String kind, @Nullable Object source, @NotNull Supplier<Message> renderer, Object... inputs) {
+        Slot slot = slots.get(kind);
+        if (slot == null || slot.source != source) {
+            slot = new Slot(source);
+            slots.put(kind, slot);
+        }
+        List<Object> key = inputs.length == 0 ? Collections.emptyList() : Arrays.asList(inputs);
+        Message message = slot.messages.get(key);
+        if (message == null) {
+            message = renderer.get();
+            if (message == null) {
+                return null;
+            }
+            if (slot.messages.size() >= maximumSize) {
+                slot.messages.clear();
+            }
+            slot.messages.put(key, message);
+        }
+        return message;
+    }
+
+    /**
+     * Discards all messages of the given kind.
+     *
+     * @param kind the kind of the messages to discard
+     */
+    public void invalidate(@NotNull String kind) {
+        slots.remove(kind);
+    }
+
+    /**
+     * Discards all messages.
+     */
+    public void invalidateAll() {
+        slots.clear();
+    }
+
+    /**
+     * Gets the amount of cached messages of all kinds.
+     *
+     * @return the amount of cached messages
+     */
+    public int size() {
+        return slots.values().stream().mapToInt(slot -> slot.messages.size()).sum();
+    }
+
+    private static class Slot {
+
+        private final Object source;
+        private final Map<List<Object>, Message> messages;
+
+        private Slot(Object source) {
+            this.source = source;
+            messages = new ConcurrentHashMap<>();
+        }
+    }
+}
@@ -2,9 +2,10 @@ package com.github.kaktushose.jda.commands.embeds.error;
 
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.embeds.MessageCache;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
-import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.MessageBuilder;
 import net.dv8tion.jda.api.entities.Message;
@@ -18,25 +19,49 @@ import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 
 /**
- * Implementation of {@link ErrorMessageFactory} with default embeds.
+ * Implementation of {@link ErrorMessageFactory} with default embeds. Messages that only depend on the settings or the
+ * command are rendered once and then served from a {@link MessageCache}.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see JsonErrorMessageFactory
  * @since 2.0.0
  */
 public class DefaultErrorMessageFactory implements ErrorMessageFactory {
 
+    /**
+     * The cache holding all rendered messages that don't depend on the user input.
+     */
+    protected final MessageCache messageCache = new MessageCache();
+
+    /**
+     * Gets the {@link MessageCache} of this factory.
+     *
+     * @return the {@link MessageCache}
+     */
+    public MessageCache getMessageCache() {
+        return messageCache;
+    }
+
     @Override
     public Message getCommandNotFoundMessage(@NotNull CommandContext context) {
-        GuildSettings settings = context.getSettings();
+        SettingsSnapshot settings = context.getSettingsSnapshot();
+        if (context.getPossibleCommands().isEmpty()) {
+            return messageCache.get("commandNotFound", null, () -> renderCommandNotFound(context),
+                    settings.getPrefix(), settings.getHelpLabel());
+        }
+        return renderCommandNotFound(context);
+    }
+
+    private Message renderCommandNotFound(CommandContext context) {
+        SettingsSnapshot settings = context.getSettingsSnapshot();
         EmbedBuilder embed = new EmbedBuilder()
                 .setColor(Color.ORANGE)
                 .setTitle("Command Not Found")
                 .setDescription(
                         String.format("```type %s%s to get a list of all available commands```",
                                 settings.getPrefix(),
-                                settings.getHelpLabels().stream().findFirst().orElse("help"))
+                                settings.getHelpLabel())
                 );
         if (!context.getPossibleCommands().isEmpty()) {
             StringBuilder sbPossible = new StringBuilder();
@@ -50,8 +75,13 @@ public class DefaultErrorMessageFactory implements ErrorMessageFactory {
 
     @Override
     public Message getInsufficientPermissionsMessage(@NotNull CommandContext context) {
-        GuildSettings settings = context.getSettings();
+        SettingsSnapshot settings = context.getSettingsSnapshot();
         CommandDefinition command = context.getCommand();
+        return messageCache.get("insufficientPermissions", null, () -> renderInsufficientPermissions(settings, command),
+                settings.getPrefix(), command);
+    }
+
+    private Message renderInsufficientPermissions(SettingsSnapshot settings, CommandDefinition command) {
         StringBuilder sbPermissions = new StringBuilder();
         command.getPermissions().forEach(permission -> sbPermissions.append(permission).append(", "));
         String permissions = sbPermissions.toString().isEmpty() ? "N/A" : sbPermissions.substring(0, sbPermissions.length() - 2);
@@ -70,32 +100,32 @@ public class DefaultErrorMessageFactory implements ErrorMessageFactory {
 
     @Override
     public Message getGuildMutedMessage(@NotNull CommandContext context) {
-        return new MessageBuilder().setEmbeds(new EmbedBuilder()
+        return messageCache.get("guildMuted", null, () -> new MessageBuilder().setEmbeds(new EmbedBuilder()
                 .setColor(Color.RED)
                 .setTitle("Insufficient Permissions")
                 .setDescription("This guild is muted!")
                 .build()
-        ).build();
+        ).build());
     }
 
     @Override
     public Message getChannelMutedMessage(@NotNull CommandContext context) {
-        return new MessageBuilder().setEmbeds(new EmbedBuilder()
+        return messageCache.get("channelMuted", null, () -> new MessageBuilder().setEmbeds(new EmbedBuilder()
                 .setColor(Color.RED)
                 .setTitle("Insufficient Permissions")
                 .setDescription("This channel is muted!")
                 .build()
-        ).build();
+        ).build());
     }
 
     @Override
     public Message getUserMutedMessage(@NotNull CommandContext context) {
-        return new MessageBuilder().setEmbeds(new EmbedBuilder()
+        return messageCache.get("userMuted", null, () -> new MessageBuilder().setEmbeds(new EmbedBuilder()
                 .setColor(Color.RED)
                 .setTitle("Insufficient Permissions")
                 .setDescription("You are muted!")
                 .build()
-        ).build();
+        ).build());
     }
 
     @Override
@@ -124,7 +154,7 @@ public class DefaultErrorMessageFactory implements ErrorMessageFactory {
                 .setColor(Color.ORANGE)
                 .setTitle("Syntax Error")
                 .setDescription(String.format("`%s`", command.getMetadata().getUsage().replaceAll(
-                        "\\{prefix}", Matcher.quoteReplacement(context.getSettings().getPrefix())))
+                        "\\{prefix}", Matcher.quoteReplacement(context.getSettingsSnapshot().getPrefix())))
                 )
                 .addField("Expected", String.format("`%s`", expected), false)
                 .addField("Actual", String.format("`%s`", actual), false)
@@ -160,12 +190,12 @@ public class DefaultErrorMessageFactory implements ErrorMessageFactory {
 
     @Override
     public Message getWrongChannelTypeMessage(@NotNull CommandContext context) {
-        return new MessageBuilder().setEmbeds(new EmbedBuilder()
+        return messageCache.get("wrongChannel", null, () -> new MessageBuilder().setEmbeds(new EmbedBuilder()
                 .setColor(Color.RED)
                 .setTitle("Wrong Channel Type")
                 .setDescription("This command cannot be executed in this type of channel!")
                 .build()
-        ).build();
+        ).build());
     }
 
     @Override
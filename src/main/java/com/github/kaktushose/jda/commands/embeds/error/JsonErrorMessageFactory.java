@@ -3,10 +3,10 @@ package com.github.kaktushose.jda.commands.embeds.error;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
 import com.github.kaktushose.jda.commands.embeds.EmbedCache;
-import com.github.kaktushose.jda.commands.embeds.EmbedDTO;
+import com.github.kaktushose.jda.commands.embeds.EmbedTemplate;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.ConstraintDefinition;
-import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.MessageBuilder;
 import net.dv8tion.jda.api.entities.Message;
@@ -14,15 +14,20 @@ import net.dv8tion.jda.api.entities.MessageEmbed;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 
 /**
- * Subtype of {@link DefaultErrorMessageFactory} that can load the embeds from an {@link EmbedCache}.
+ * Subtype of {@link DefaultErrorMessageFactory} that can load the embeds from an {@link EmbedCache}. The embeds are
+ * rendered from their compiled {@link EmbedTemplate}. Cached messages are bound to the template they were rendered from,
+ * thus they get discarded if the {@link EmbedCache} is reloaded.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see DefaultErrorMessageFactory
  * @see EmbedCache
  * @since 2.0.0
@@ -37,19 +42,29 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
 
     @Override
     public Message getCommandNotFoundMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("commandNotFound")) {
+        EmbedTemplate template = embedCache.getTemplate("commandNotFound");
+        if (template == null) {
             return super.getCommandNotFoundMessage(context);
         }
 
-        GuildSettings settings = context.getSettings();
+        SettingsSnapshot settings = context.getSettingsSnapshot();
+        if (context.getPossibleCommands().isEmpty()) {
+            return messageCache.get("commandNotFound", template, () -> renderCommandNotFound(template, context),
+                    settings.getPrefix(), settings.getHelpLabel());
+        }
+        return renderCommandNotFound(template, context);
+    }
 
-        EmbedDTO embedDTO = embedCache.getEmbed("commandNotFound")
-                .injectValue("prefix", settings.getPrefix())
-                .injectValue("helpLabel", settings.getHelpLabels().stream().findFirst().orElse("help"));
+    private Message renderCommandNotFound(EmbedTemplate template, CommandContext context) {
+        SettingsSnapshot settings = context.getSettingsSnapshot();
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", settings.getPrefix());
+        values.put("helpLabel", settings.getHelpLabel());
         MessageEmbed embed;
 
         if (context.getPossibleCommands().isEmpty()) {
-            EmbedBuilder builder = embedDTO.toEmbedBuilder();
+            EmbedBuilder builder = template.toEmbedBuilder(values);
             builder.getFields().removeIf(field -> "{commands}".equals(field.getValue()));
             embed = builder.build();
         } else {
@@ -57,8 +72,8 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
             context.getPossibleCommands().forEach(command ->
                     sbPossible.append(String.format("`%s`", command.getLabels().get(0))).append(", ")
             );
-            embedDTO.injectValue("commands", sbPossible.substring(0, sbPossible.length() - 2));
-            embed = embedDTO.toMessageEmbed();
+            values.put("commands", sbPossible.substring(0, sbPossible.length() - 2));
+            embed = template.render(values);
         }
 
         return new MessageBuilder().setEmbeds(embed).build();
@@ -66,51 +81,61 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
 
     @Override
     public Message getInsufficientPermissionsMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("insufficientPermissions")) {
+        EmbedTemplate template = embedCache.getTemplate("insufficientPermissions");
+        if (template == null) {
             return super.getInsufficientPermissionsMessage(context);
         }
 
-        GuildSettings settings = context.getSettings();
+        SettingsSnapshot settings = context.getSettingsSnapshot();
         CommandDefinition command = context.getCommand();
+        return messageCache.get("insufficientPermissions", template,
+                () -> renderInsufficientPermissions(template, settings, command), settings.getPrefix(), command);
+    }
+
+    private Message renderInsufficientPermissions(EmbedTemplate template, SettingsSnapshot settings, CommandDefinition command) {
         StringBuilder sbPermissions = new StringBuilder();
         command.getPermissions().forEach(permission -> sbPermissions.append(permission).append(", "));
         String permissions = sbPermissions.toString().isEmpty() ? "N/A" : sbPermissions.substring(0, sbPermissions.length() - 2);
 
-        return embedCache.getEmbed("insufficientPermissions")
-                .injectValue("prefix", settings.getPrefix())
-                .injectValue("label", command.getLabels().get(0))
-                .injectValue("permissions", permissions)
-                .toMessage();
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", settings.getPrefix());
+        values.put("label", command.getLabels().get(0));
+        values.put("permissions", permissions);
+        return template.toMessage(values);
     }
 
     @Override
     public Message getGuildMutedMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("guildMuted")) {
+        EmbedTemplate template = embedCache.getTemplate("guildMuted");
+        if (template == null) {
             return super.getGuildMutedMessage(context);
         }
-        return embedCache.getEmbed("guildMuted").toMessage();
+        return messageCache.get("guildMuted", template, () -> template.toMessage(null));
     }
 
     @Override
     public Message getChannelMutedMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("channelMuted")) {
+        EmbedTemplate template = embedCache.getTemplate("channelMuted");
+        if (template == null) {
             return super.getChannelMutedMessage(context);
         }
-        return embedCache.getEmbed("channelMuted").toMessage();
+        return messageCache.get("channelMuted", template, () -> template.toMessage(null));
     }
 
     @Override
     public Message getUserMutedMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("userMuted")) {
+        EmbedTemplate template = embedCache.getTemplate("userMuted");
+        if (template == null) {
             return super.getUserMutedMessage(context);
         }
-        return embedCache.getEmbed("userMuted").toMessage();
+        return messageCache.get("userMuted", template, () -> template.toMessage(null));
     }
 
 
     @Override
     public Message getSyntaxErrorMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("syntaxError")) {
+        EmbedTemplate template = embedCache.getTemplate("syntaxError");
+        if (template == null) {
             return super.getSyntaxErrorMessage(context);
         }
         StringBuilder sbExpected = new StringBuilder();
@@ -133,28 +158,28 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         arguments.forEach(argument -> sbActual.append(argument).append(", "));
         String actual = sbActual.toString().isEmpty() ? " " : sbActual.substring(0, sbActual.length() - 2);
 
-        return embedCache.getEmbed("syntaxError")
-                .injectValue("usage", command.getMetadata().getUsage().replaceAll("\\{prefix}",
-                        Matcher.quoteReplacement(context.getSettings().getPrefix()))
-                )
-                .injectValue("expected", expected)
-                .injectValue("actual", actual)
-                .toMessage();
+        Map<String, Object> values = new HashMap<>();
+        values.put("usage", command.getMetadata().getUsage().replaceAll("\\{prefix}",
+                Matcher.quoteReplacement(context.getSettingsSnapshot().getPrefix()))
+        );
+        values.put("expected", expected);
+        values.put("actual", actual);
+        return template.toMessage(values);
     }
 
     @Override
     public Message getConstraintFailedMessage(@NotNull CommandContext context, @NotNull ConstraintDefinition constraint) {
-        if (!embedCache.containsEmbed("constraintFailed")) {
+        EmbedTemplate template = embedCache.getTemplate("constraintFailed");
+        if (template == null) {
             return super.getConstraintFailedMessage(context, constraint);
         }
-        return embedCache.getEmbed("constraintFailed")
-                .injectValue("message", constraint.getMessage())
-                .toMessage();
+        return template.toMessage(Collections.singletonMap("message", constraint.getMessage()));
     }
 
     @Override
     public Message getCooldownMessage(@NotNull CommandContext context, long ms) {
-        if (!embedCache.containsEmbed("cooldown")) {
+        EmbedTemplate template = embedCache.getTemplate("cooldown");
+        if (template == null) {
             return super.getCooldownMessage(context, ms);
         }
         long seconds = TimeUnit.MILLISECONDS.toSeconds(ms);
@@ -163,26 +188,24 @@ public class JsonErrorMessageFactory extends DefaultErrorMessageFactory {
         long h = (seconds / (60 * 60)) % 24;
         String cooldown = String.format("%d:%02d:%02d", h, m, s);
 
-        return embedCache.getEmbed("cooldown")
-                .injectValue("cooldown", cooldown)
-                .toMessage();
+        return template.toMessage(Collections.singletonMap("cooldown", cooldown));
     }
 
     @Override
     public Message getWrongChannelTypeMessage(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("wrongChannel")) {
+        EmbedTemplate template = embedCache.getTemplate("wrongChannel");
+        if (template == null) {
             return super.getInsufficientPermissionsMessage(context);
         }
-        return embedCache.getEmbed("wrongChannel").toMessage();
+        return messageCache.get("wrongChannel", template, () -> template.toMessage(null));
     }
 
     @Override
     public Message getCommandExecutionFailedMessage(@NotNull CommandContext context, @NotNull Exception exception) {
-        if (!embedCache.containsEmbed("executionFailed")) {
+        EmbedTemplate template = embedCache.getTemplate("executionFailed");
+        if (template == null) {
             return super.getCommandExecutionFailedMessage(context, exception);
         }
-        return embedCache.getEmbed("executionFailed")
-                .injectValue("exception", exception.toString())
-                .toMessage();
+        return template.toMessage(Collections.singletonMap("exception", exception.toString()));
     }
 }
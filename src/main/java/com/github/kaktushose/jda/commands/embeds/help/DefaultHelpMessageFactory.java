@@ -2,26 +2,36 @@ package com.github.kaktushose.jda.commands.embeds.help;
 
 import com.github.kaktushose.jda.commands.data.CommandList;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.embeds.MessageCache;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.CommandMetadata;
 import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
-import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.MessageBuilder;
 import net.dv8tion.jda.api.entities.Message;
 import org.jetbrains.annotations.NotNull;
 
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 /**
- * Implementation of {@link HelpMessageFactory} with default embeds.
+ * Implementation of {@link HelpMessageFactory} with default embeds. Help messages are cached per prefix, help label and
+ * command. The generic help is bound to the given set of controllers, thus it gets rendered again once the
+ * {@link com.github.kaktushose.jda.commands.reflect.CommandRegistry CommandRegistry} publishes a new set.
+ *
+ * <p>The generic help can be split up into pages of a fixed amount of categories, see
+ * {@link #DefaultHelpMessageFactory(int)}. Only the requested page is rendered, use a {@link HelpPaginator} to
+ * navigate through the pages.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see JsonHelpMessageFactory
  * @since 2.0.0
  */
@@ -32,9 +42,58 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
      */
     protected String prefixPattern = "\\{prefix}";
 
+    /**
+     * The cache holding all rendered help messages.
+     */
+    protected final MessageCache messageCache = new MessageCache();
+    private final int categoriesPerPage;
+    private volatile HelpPages pages;
+
+    /**
+     * Constructs a new DefaultHelpMessageFactory that puts all categories on a single page.
+     */
+    public DefaultHelpMessageFactory() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new DefaultHelpMessageFactory that splits the generic help up into pages.
+     *
+     * @param categoriesPerPage the amount of categories per page or {@code 0} to put all categories on a single page
+     */
+    public DefaultHelpMessageFactory(int categoriesPerPage) {
+        if (categoriesPerPage < 0) {
+            throw new IllegalArgumentException("Categories per page must not be negative!");
+        }
+        this.categoriesPerPage = categoriesPerPage;
+    }
+
+    /**
+     * Gets the amount of categories per page.
+     *
+     * @return the amount of categories per page or {@code 0} if all categories are put on a single page
+     */
+    public int getCategoriesPerPage() {
+        return categoriesPerPage;
+    }
+
+    /**
+     * Gets the {@link MessageCache} of this factory.
+     *
+     * @return the {@link MessageCache}
+     */
+    public MessageCache getMessageCache() {
+        return messageCache;
+    }
+
     @Override
     public Message getSpecificHelp(@NotNull CommandContext context) {
-        String prefix = Matcher.quoteReplacement(context.getSettings().getPrefix());
+        return messageCache.get("specificHelp", null, () -> renderSpecificHelp(context),
+                context.getSettingsSnapshot().getPrefix(), context.getCommand(), prefixPattern);
+    }
+
+    private Message renderSpecificHelp(CommandContext context) {
+        String prefix = Matcher.quoteReplacement(context.getSettingsSnapshot().getPrefix());
         EmbedBuilder builder = new EmbedBuilder();
         CommandDefinition command = context.getCommand();
         CommandMetadata metadata = command.getMetadata();
@@ -77,23 +136,102 @@ public class DefaultHelpMessageFactory implements HelpMessageFactory {
 
     @Override
     public Message getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
-        GuildSettings settings = context.getSettings();
+        return getGenericHelp(controllers, context, 0);
+    }
+
+    @Override
+    public int getGenericHelpPageCount(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
+        return getPages(controllers).size();
+    }
+
+    @Override
+    public Message getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context, int page) {
+        SettingsSnapshot settings = context.getSettingsSnapshot();
+        HelpPages pages = getPages(controllers);
+        int index = Math.floorMod(page, pages.size());
+        return messageCache.get("genericHelp", controllers, () -> renderGenericHelp(pages, index, settings),
+                settings.getPrefix(), settings.getHelpLabel(), index);
+    }
+
+    /**
+     * Gets the categories of each page. The pages are only computed again if a different set of controllers is
+     * passed.
+     *
+     * @param controllers a {@link Set} of all available {@link ControllerDefinition ControllerDefinitions}
+     * @return the {@link HelpPages}
+     */
+    protected HelpPages getPages(@NotNull Set<ControllerDefinition> controllers) {
+        HelpPages current = pages;
+        if (current == null || current.controllers != controllers) {
+            current = new HelpPages(controllers, categoriesPerPage);
+            pages = current;
+        }
+        return current;
+    }
+
+    private Message renderGenericHelp(HelpPages pages, int page, SettingsSnapshot settings) {
         EmbedBuilder builder = new EmbedBuilder();
-        CommandList superCommands = new CommandList();
-        controllers.forEach(definition -> superCommands.addAll(definition.getSuperCommands()));
 
         builder.setColor(Color.GREEN)
                 .setTitle("General Help")
                 .setDescription(String.format("The following commands are available. Type `%s%s <command>` to get specific help",
                         settings.getPrefix(),
-                        settings.getHelpLabels().stream().findFirst().orElse("help")));
+                        settings.getHelpLabel()));
 
-        superCommands.getSortedByCategories().forEach((category, commands) -> {
+        pages.getPage(page).forEach((category, commands) -> {
             StringBuilder sb = new StringBuilder();
             commands.forEach(command -> sb.append(String.format("`%s`", command.getLabels().get(0))).append(", "));
             builder.addField(category, sb.substring(0, sb.length() - 2), false);
         });
+        if (pages.size() > 1) {
+            builder.setFooter(String.format("Page %d/%d", page + 1, pages.size()));
+        }
 
         return new MessageBuilder().setEmbeds(builder.build()).build();
     }
+
+    /**
+     * The super commands of a set of controllers, sorted by their category and split up into pages.
+     */
+    protected static final class HelpPages {
+
+        private final Set<ControllerDefinition> controllers;
+        private final List<Map<String, List<CommandDefinition>>> pages;
+
+        private HelpPages(Set<ControllerDefinition> controllers, int categoriesPerPage) {
+            this.controllers = controllers;
+            CommandList superCommands = new CommandList();
+            controllers.forEach(definition -> superCommands.addAll(definition.getSuperCommands()));
+
+            pages = new ArrayList<>();
+            Map<String, List<CommandDefinition>> page = new TreeMap<>();
+            for (Map.Entry<String, List<CommandDefinition>> entry : superCommands.getSortedByCategories().entrySet()) {
+                if (categoriesPerPage > 0 && page.size() == categoriesPerPage) {
+                    pages.add(page);
+                    page = new TreeMap<>();
+                }
+                page.put(entry.getKey(), entry.getValue());
+            }
+            pages.add(page);
+        }
+
+        /**
+         * Gets the amount of pages. There is always at least one page.
+         *
+         * @return the amount of pages
+         */
+        public int size() {
+            return pages.size();
+        }
+
+        /**
+         * Gets the commands of the given page, mapped to their category.
+         *
+         * @param page the zero based index of the page
+         * @return the commands of the given page
+         */
+        public Map<String, List<CommandDefinition>> getPage(int page) {
+            return pages.get(page);
+        }
+    }
 }
@@ -11,7 +11,7 @@ import java.util.Set;
  * Generic interface for factory classes that generate help messages.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see DefaultHelpMessageFactory
  * @since 2.0.0
  */
@@ -33,4 +33,33 @@ public interface HelpMessageFactory {
      * @return a {@link Message} to send to get an overview over all available commands
      */
     Message getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context);
+
+    /**
+     * Gets the amount of pages the generic help consists of. The default implementation doesn't support pagination
+     * and thus always returns {@code 1}.
+     *
+     * @param controllers a {@link Set} of all available {@link ControllerDefinition ControllerDefinitions}
+     * @param context     context the corresponding {@link CommandContext}
+     * @return the amount of pages the generic help consists of
+     * @since 2.3.0
+     */
+    default int getGenericHelpPageCount(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
+        return 1;
+    }
+
+    /**
+     * Gets a single page of the generic help. Page numbers wrap around, thus {@code -1} refers to the last page. The
+     * default implementation doesn't support pagination and thus always returns
+     * {@link #getGenericHelp(Set, CommandContext)}.
+     *
+     * @param controllers a {@link Set} of all available {@link ControllerDefinition ControllerDefinitions}
+     * @param context     context the corresponding {@link CommandContext}
+     * @param page        the zero based index of the page
+     * @return a {@link Message} to send to get an overview over the commands of the given page
+     * @see com.github.kaktushose.jda.commands.embeds.help.HelpPaginator HelpPaginator
+     * @since 2.3.0
+     */
+    default Message getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context, int page) {
+        return getGenericHelp(controllers, context);
+    }
 }
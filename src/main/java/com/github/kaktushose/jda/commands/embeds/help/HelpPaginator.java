@@ -0,0 +1,158 @@
+package com.github.kaktushose.jda.commands.embeds.help;
+
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageReaction;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listener that lets users navigate through the pages of a generic help message via reactions. Messages have to be
+ * registered with {@link #track(Message, Set, CommandContext)} after they were sent, e.g. by using a
+ * {@link com.github.kaktushose.jda.commands.dispatching.sender.impl.PaginatedMessageSender PaginatedMessageSender}.
+ * Pages are requested from the {@link HelpMessageFactory} only when a user turns to them.
+ *
+ * <p>Adding or removing a reaction both turns the page, thus the bot doesn't need the permission to remove
+ * reactions. Only the user that requested the help can turn the pages. The paginator remembers up to
+ * {@link #getMaximumSize()} messages and forgets the least recently used one if this limit is exceeded.
+ *
+ * <p>This listener must be registered to JDA or the ShardManager manually.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see HelpMessageFactory#getGenericHelp(Set, CommandContext, int)
+ * @since 2.3.0
+ */
+public class HelpPaginator extends ListenerAdapter {
+
+    /**
+     * The unicode emoji used to turn to the previous page.
+     */
+    public static final String PREVIOUS = "\u25C0";
+    /**
+     * The unicode emoji used to turn to the next page.
+     */
+    public static final String NEXT = "\u25B6";
+    /**
+     * The default amount of messages that can be navigated.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    private static final Logger log = LoggerFactory.getLogger(HelpPaginator.class);
+    private final Map<Long, Pagination> messages;
+    private final int maximumSize;
+
+    /**
+     * Constructs a new HelpPaginator that can navigate up to {@value DEFAULT_MAXIMUM_SIZE} messages.
+     */
+    public HelpPaginator() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructs a new HelpPaginator.
+     *
+     * @param maximumSize the amount of messages that can be navigated
+     */
+    public HelpPaginator(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1!");
+        }
+        this.maximumSize = maximumSize;
+        messages = Collections.synchronizedMap(new LinkedHashMap<Long, Pagination>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Pagination> eldest) {
+                return size() > HelpPaginator.this.maximumSize;
+            }
+        });
+    }
+
+    /**
+     * Gets the amount of messages that can be navigated.
+     *
+     * @return the amount of messages that can be navigated
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Registers a sent generic help message for navigation. This will add the navigation reactions to the message.
+     * Messages with only a single page are ignored.
+     *
+     * @param message     the sent {@link Message}, showing the first page
+     * @param controllers the {@link ControllerDefinition ControllerDefinitions} the help was rendered from
+     * @param context     the corresponding {@link CommandContext}
+     */
+    public void track(@NotNull Message message, @NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
+        HelpMessageFactory factory = context.getImplementationRegistry().getHelpMessageFactory();
+        if (factory.getGenericHelpPageCount(controllers, context) < 2) {
+            return;
+        }
+        long userId = context.getEvent().getAuthor().getIdLong();
+        messages.put(message.getIdLong(), new Pagination(factory, controllers, context, userId));
+        message.addReaction(PREVIOUS).queue();
+        message.addReaction(NEXT).queue();
+        log.debug("Tracking help message {}", message.getIdLong());
+    }
+
+    /**
+     * Gets the amount of messages that can currently be navigated.
+     *
+     * @return the amount of tracked messages
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    @Override
+    public void onGenericMessageReaction(@NotNull GenericMessageReactionEvent event) {
+        Pagination pagination = messages.get(event.getMessageIdLong());
+        if (pagination == null || event.getUserIdLong() != pagination.userId) {
+            return;
+        }
+        MessageReaction.ReactionEmote emote = event.getReactionEmote();
+        if (!emote.isEmoji()) {
+            return;
+        }
+        int delta;
+        if (PREVIOUS.equals(emote.getEmoji())) {
+            delta = -1;
+        } else if (NEXT.equals(emote.getEmoji())) {
+            delta = 1;
+        } else {
+            return;
+        }
+        Message page = pagination.turn(delta);
+        event.getChannel().editMessageById(event.getMessageIdLong(), page).queue();
+    }
+
+    private static class Pagination {
+
+        private final HelpMessageFactory factory;
+        private final Set<ControllerDefinition> controllers;
+        private final CommandContext context;
+        private final long userId;
+        private int page;
+
+        private Pagination(HelpMessageFactory factory, Set<ControllerDefinition> controllers, CommandContext context, long userId) {
+            this.factory = factory;
+            this.controllers = controllers;
+            this.context = context;
+            this.userId = userId;
+        }
+
+        private synchronized Message turn(int delta) {
+            page = Math.floorMod(page + delta, factory.getGenericHelpPageCount(controllers, context));
+            return factory.getGenericHelp(controllers, context, page);
+        }
+    }
+}
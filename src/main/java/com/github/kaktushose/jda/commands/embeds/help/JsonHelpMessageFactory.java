@@ -3,25 +3,30 @@ package com.github.kaktushose.jda.commands.embeds.help;
 import com.github.kaktushose.jda.commands.data.CommandList;
 import com.github.kaktushose.jda.commands.dispatching.CommandContext;
 import com.github.kaktushose.jda.commands.embeds.EmbedCache;
+import com.github.kaktushose.jda.commands.embeds.EmbedTemplate;
 import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
 import com.github.kaktushose.jda.commands.reflect.CommandMetadata;
 import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
-import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.MessageBuilder;
 import net.dv8tion.jda.api.entities.Message;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 /**
- * Subtype of {@link DefaultHelpMessageFactory} that can load the embeds from an {@link EmbedCache}.
+ * Subtype of {@link DefaultHelpMessageFactory} that can load the embeds from an {@link EmbedCache}. The embeds are
+ * rendered from their compiled {@link EmbedTemplate}. The template is part of the cache key, thus reloading the
+ * {@link EmbedCache} renders the help messages again.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see DefaultHelpMessageFactory
  * @see EmbedCache
  * @since 2.0.0
@@ -36,11 +41,17 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
 
     @Override
     public Message getSpecificHelp(@NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("specificHelp")) {
+        EmbedTemplate template = embedCache.getTemplate("specificHelp");
+        if (template == null) {
             return super.getSpecificHelp(context);
         }
+        return messageCache.get("specificHelp", null, () -> renderSpecificHelp(template, context),
+                template, context.getSettingsSnapshot().getPrefix(), context.getCommand(), prefixPattern);
+    }
 
-        String prefix = Matcher.quoteReplacement(context.getSettings().getPrefix());
+    private Message renderSpecificHelp(EmbedTemplate template, CommandContext context) {
+        String prefix = context.getSettingsSnapshot().getPrefix();
+        String replacement = Matcher.quoteReplacement(prefix);
         CommandDefinition command = context.getCommand();
         CommandMetadata metadata = command.getMetadata();
 
@@ -53,16 +64,16 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
         command.getPermissions().forEach(perm -> sbPermissions.append(perm).append(", "));
         String permissions = sbPermissions.toString().isEmpty() ? "N/A" : sbPermissions.substring(0, sbPermissions.length() - 2);
 
-        EmbedBuilder builder = embedCache.getEmbed("specificHelp")
-                .injectValue("prefix", prefix)
-                .injectValue("label", command.getLabels().get(0))
-                .injectValue("name", metadata.getName().replaceAll(prefixPattern, prefix))
-                .injectValue("usage", metadata.getUsage().replaceAll(prefixPattern, prefix))
-                .injectValue("aliases", aliases)
-                .injectValue("description", metadata.getDescription().replaceAll(prefixPattern, prefix))
-                .injectValue("permissions", permissions)
-                .injectValue("category", metadata.getCategory().replaceAll(prefixPattern, prefix))
-                .toEmbedBuilder();
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", prefix);
+        values.put("label", command.getLabels().get(0));
+        values.put("name", metadata.getName().replaceAll(prefixPattern, replacement));
+        values.put("usage", metadata.getUsage().replaceAll(prefixPattern, replacement));
+        values.put("aliases", aliases);
+        values.put("description", metadata.getDescription().replaceAll(prefixPattern, replacement));
+        values.put("permissions", permissions);
+        values.put("category", metadata.getCategory().replaceAll(prefixPattern, replacement));
+        EmbedBuilder builder = template.toEmbedBuilder(values);
 
         StringBuilder sbCommands = new StringBuilder();
         String name;
@@ -83,18 +94,23 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
 
     @Override
     public Message getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
-        if (!embedCache.containsEmbed("genericHelp")) {
+        EmbedTemplate template = embedCache.getTemplate("genericHelp");
+        if (template == null) {
             return super.getGenericHelp(controllers, context);
         }
+        SettingsSnapshot settings = context.getSettingsSnapshot();
+        return messageCache.get("genericHelp", controllers, () -> renderGenericHelp(template, controllers, settings),
+                template, settings.getPrefix(), settings.getHelpLabel());
+    }
 
-        GuildSettings settings = context.getSettings();
+    private Message renderGenericHelp(EmbedTemplate template, Set<ControllerDefinition> controllers, SettingsSnapshot settings) {
         CommandList superCommands = new CommandList();
         controllers.forEach(definition -> superCommands.addAll(definition.getSuperCommands()));
 
-        EmbedBuilder builder = embedCache.getEmbed("genericHelp")
-                .injectValue("prefix", settings.getPrefix())
-                .injectValue("helpLabel", settings.getHelpLabels().stream().findFirst().orElse("help"))
-                .toEmbedBuilder();
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", settings.getPrefix());
+        values.put("helpLabel", settings.getHelpLabel());
+        EmbedBuilder builder = template.toEmbedBuilder(values);
 
         superCommands.getSortedByCategories().forEach((category, commands) -> {
             StringBuilder sb = new StringBuilder();
@@ -105,4 +121,20 @@ public class JsonHelpMessageFactory extends DefaultHelpMessageFactory {
         return new MessageBuilder().setEmbeds(builder.build()).build();
     }
 
+    @Override
+    public int getGenericHelpPageCount(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context) {
+        if (embedCache.getTemplate("genericHelp") != null) {
+            return 1;
+        }
+        return super.getGenericHelpPageCount(controllers, context);
+    }
+
+    @Override
+    public Message getGenericHelp(@NotNull Set<ControllerDefinition> controllers, @NotNull CommandContext context, int page) {
+        if (embedCache.getTemplate("genericHelp") != null) {
+            return getGenericHelp(controllers, context);
+        }
+        return super.getGenericHelp(controllers, context, page);
+    }
+
 }
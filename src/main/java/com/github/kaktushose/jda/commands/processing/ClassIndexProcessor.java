@@ -0,0 +1,182 @@
+package com.github.kaktushose.jda.commands.processing;
+
+import com.github.kaktushose.jda.commands.annotations.*;
+import com.github.kaktushose.jda.commands.reflect.GeneratedClassIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that writes the index of all {@link CommandController CommandControllers},
+ * {@link Component Components} and {@link Produces producer methods} to {@value GeneratedClassIndex#RESOURCE} at
+ * compile time. If this index is present at runtime, it will be loaded by {@link GeneratedClassIndex} instead of
+ * scanning the classpath.
+ *
+ * <p>On an incremental compilation the processor only sees the changed sources. Therefore, the entries of the previous
+ * index are merged into the new one, as long as their classes still exist and are still annotated.
+ *
+ * <p>The processor is registered as a service, thus it will run automatically as long as jda-commands is on the
+ * annotation processor path. Besides indexing, the processor reports the following mistakes as compile errors or
+ * warnings:
+ * <ul>
+ *     <li>producer methods that have parameters</li>
+ *     <li>command methods outside of a {@link CommandController}</li>
+ *     <li>injected fields outside of a {@link CommandController} or {@link Component}</li>
+ * </ul>
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see GeneratedClassIndex
+ * @since 2.3.0
+ */
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> entries = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new LinkedHashSet<>(Arrays.asList(
+                CommandController.class.getCanonicalName(),
+                Component.class.getCanonicalName(),
+                Produces.class.getCanonicalName(),
+                Command.class.getCanonicalName(),
+                Inject.class.getCanonicalName()
+        ));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+            return false;
+        }
+        Messager messager = processingEnv.getMessager();
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(CommandController.class))) {
+            entries.add(GeneratedClassIndex.CONTROLLER + " " + binaryName(type));
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Component.class))) {
+            entries.add(GeneratedClassIndex.COMPONENT + " " + binaryName(type));
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(Produces.class))) {
+            if (!method.getParameters().isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Producer method must not have parameters!", method);
+                continue;
+            }
+            TypeElement type = (TypeElement) method.getEnclosingElement();
+            entries.add(GeneratedClassIndex.PRODUCER + " " + binaryName(type) + "#" + method.getSimpleName());
+        }
+        for (Element method : roundEnv.getElementsAnnotatedWith(Command.class)) {
+            if (method.getKind() == ElementKind.METHOD && !isAnnotated(method.getEnclosingElement(), CommandController.class)) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "Command method is not inside a CommandController and will be ignored!", method);
+            }
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(Inject.class))) {
+            Element type = field.getEnclosingElement();
+            if (!isAnnotated(type, CommandController.class) && !isAnnotated(type, Component.class)) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "Injected field is not inside a CommandController or Component and will be ignored!", field);
+            }
+        }
+        return false;
+    }
+
+    private void write() {
+        entries.addAll(readPreviousEntries());
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", GeneratedClassIndex.RESOURCE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write class index: " + e);
+        }
+    }
+
+    // an incremental compilation only processes the changed sources, thus the entries of the unchanged ones must be
+    // taken over from the previous index as long as they are still valid
+    private Set<String> readPreviousEntries() {
+        Set<String> previous = new TreeSet<>();
+        FileObject file;
+        try {
+            file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", GeneratedClassIndex.RESOURCE);
+        } catch (IOException | IllegalArgumentException e) {
+            return previous;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && isValid(line)) {
+                    previous.add(line);
+                }
+            }
+        } catch (IOException e) {
+            // there is no previous index
+        }
+        return previous;
+    }
+
+    private boolean isValid(String entry) {
+        String[] parts = entry.split("\\s+", 2);
+        if (parts.length != 2) {
+            return false;
+        }
+        String name = parts[1];
+        int separator = name.indexOf('#');
+        String className = separator < 0 ? name : name.substring(0, separator);
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+        if (type == null) {
+            return false;
+        }
+        switch (parts[0]) {
+            case GeneratedClassIndex.CONTROLLER:
+                return isAnnotated(type, CommandController.class);
+            case GeneratedClassIndex.COMPONENT:
+                return isAnnotated(type, Component.class);
+            case GeneratedClassIndex.PRODUCER:
+                String methodName = name.substring(separator + 1);
+                for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                    if (method.getSimpleName().contentEquals(methodName) && isAnnotated(method, Produces.class)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private boolean isAnnotated(Element element, Class<? extends java.lang.annotation.Annotation> annotation) {
+        return element != null && element.getAnnotation(annotation) != null;
+    }
+}
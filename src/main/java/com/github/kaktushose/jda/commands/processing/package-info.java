@@ -0,0 +1,4 @@
+/**
+ * Annotation processing that indexes commands and components at compile time.
+ */
+package com.github.kaktushose.jda.commands.processing;
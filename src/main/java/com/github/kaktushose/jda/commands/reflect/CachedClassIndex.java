@@ -0,0 +1,237 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.annotations.Component;
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link ClassIndex} that persists the result of a classpath scan to a local cache file. The cache
+ * file is keyed by a fingerprint of the scanned jar or class files, thus later starts will skip the classpath scan
+ * entirely as long as no class file has changed. This is meant for deployments that can't run the
+ * {@link com.github.kaktushose.jda.commands.processing.ClassIndexProcessor ClassIndexProcessor}.
+ *
+ * <p>The cache is enabled by setting the system property {@value CACHE_FILE_PROPERTY} to the path of the cache file,
+ * e.g. {@code -Djdacommands.index.cache=.jdac-index}. The cache file uses the same format as the
+ * {@link GeneratedClassIndex}, prefixed with the fingerprint. It must not be located inside a scanned class directory,
+ * else every write would invalidate the fingerprint.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see GeneratedClassIndex
+ * @since 2.3.0
+ */
+public class CachedClassIndex implements ClassIndex {
+
+    /**
+     * The system property holding the path of the cache file.
+     */
+    public static final String CACHE_FILE_PROPERTY = "jdacommands.index.cache";
+    private static final String FINGERPRINT = "# fingerprint ";
+    private static final Logger log = LoggerFactory.getLogger(CachedClassIndex.class);
+    private final ClassIndex classIndex;
+    private final boolean cached;
+
+    private CachedClassIndex(ClassIndex classIndex, boolean cached) {
+        this.classIndex = classIndex;
+        this.cached = cached;
+    }
+
+    /**
+     * Loads the {@link ClassIndex} from the cache file set by the system property {@value CACHE_FILE_PROPERTY}.
+     *
+     * @param clazz    a class of the classpath to scan
+     * @param packages package(s) to exclusively scan
+     * @return an {@link Optional} holding the {@link CachedClassIndex} or an empty {@link Optional} if the cache isn't
+     * enabled
+     */
+    public static Optional<CachedClassIndex> fromSystemProperty(@NotNull Class<?> clazz, @NotNull String... packages) {
+        String file = System.getProperty(CACHE_FILE_PROPERTY);
+        if (file == null || file.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(load(Paths.get(file), clazz, packages));
+    }
+
+    /**
+     * Loads the {@link ClassIndex} from the given cache file. If the cache file is missing or outdated, the classpath
+     * will be scanned with a {@link ReflectionsClassIndex} and the cache file will be rewritten.
+     *
+     * @param file     the {@link Path} of the cache file
+     * @param clazz    a class of the classpath to scan
+     * @param packages package(s) to exclusively scan
+     * @return the {@link CachedClassIndex}
+     */
+    public static CachedClassIndex load(@NotNull Path file, @NotNull Class<?> clazz, @NotNull String... packages) {
+        List<Path> locations = new ArrayList<>();
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                locations.add(Paths.get(codeSource.getLocation().toURI()));
+            } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                log.debug("Unable to resolve code source of {}", clazz, e);
+            }
+        }
+        Optional<String> fingerprint = locations.isEmpty() ? Optional.empty() : fingerprint(locations, packages);
+        return load(file, clazz.getClassLoader(), fingerprint.orElse(null),
+                () -> new ReflectionsClassIndex(clazz, packages), packages);
+    }
+
+    /**
+     * Loads the {@link ClassIndex} from the given cache file. If the fingerprint of the cache file doesn't match the
+     * given fingerprint, the given scanner will be called and the cache file will be rewritten.
+     *
+     * @param file        the {@link Path} of the cache file
+     * @param classLoader the {@link ClassLoader} to load the cached classes with
+     * @param fingerprint the fingerprint of the scanned classes or {@code null} if it is unknown. In that case the
+     *                    cache will neither be read nor written
+     * @param scanner     the {@link Supplier} performing the actual scan
+     * @param packages    package(s) to exclusively include
+     * @return the {@link CachedClassIndex}
+     */
+    public static CachedClassIndex load(@NotNull Path file,
+                                        @NotNull ClassLoader classLoader,
+                                        String fingerprint,
+                                        @NotNull Supplier<ClassIndex> scanner,
+                                        @NotNull String... packages) {
+        if (fingerprint == null) {
+            log.warn("Unable to fingerprint the classpath, the class index will not be cached");
+            return new CachedClassIndex(scanner.get(), false);
+        }
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                if ((FINGERPRINT + fingerprint).equals(reader.readLine())) {
+                    log.debug("Loading cached class index {}", file);
+                    return new CachedClassIndex(GeneratedClassIndex.load(reader, classLoader, packages), true);
+                }
+                log.debug("Cached class index {} is outdated", file);
+            } catch (IOException e) {
+                log.error("An error has occurred while loading the cached class index!", e);
+            }
+        }
+        ClassIndex classIndex = scanner.get();
+        write(file, fingerprint, classIndex);
+        return new CachedClassIndex(classIndex, false);
+    }
+
+    /**
+     * Calculates the fingerprint of the given jar files or class directories. The fingerprint consists of the paths,
+     * sizes and modification times of all files.
+     *
+     * @param locations the jar files or class directories
+     * @param packages  the package(s) to scan, they are part of the fingerprint as well
+     * @return an {@link Optional} holding the fingerprint or an empty {@link Optional} if the files cannot be read
+     */
+    public static Optional<String> fingerprint(@NotNull Collection<Path> locations, @NotNull String... packages) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            log.error("An error has occurred while fingerprinting the classpath!", e);
+            return Optional.empty();
+        }
+        StringBuilder builder = new StringBuilder(String.join(",", packages)).append('\n');
+        try {
+            for (Path location : locations) {
+                builder.append(location.toAbsolutePath()).append('\n');
+                List<Path> files;
+                if (Files.isDirectory(location)) {
+                    try (Stream<Path> stream = Files.walk(location)) {
+                        files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                    }
+                } else {
+                    files = Collections.singletonList(location);
+                }
+                for (Path path : files) {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    builder.append(location.relativize(path)).append(' ')
+                            .append(attributes.size()).append(' ')
+                            .append(attributes.lastModifiedTime().toMillis()).append('\n');
+                }
+            }
+        } catch (IOException e) {
+            log.error("An error has occurred while fingerprinting the classpath!", e);
+            return Optional.empty();
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return Optional.of(hex.toString());
+    }
+
+    private static void write(Path file, String fingerprint, ClassIndex classIndex) {
+        Set<String> entries = new TreeSet<>();
+        for (Class<?> type : classIndex.getTypesAnnotatedWith(CommandController.class)) {
+            entries.add(GeneratedClassIndex.CONTROLLER + " " + type.getName());
+        }
+        for (Class<?> type : classIndex.getTypesAnnotatedWith(Component.class)) {
+            entries.add(GeneratedClassIndex.COMPONENT + " " + type.getName());
+        }
+        for (Method method : classIndex.getMethodsAnnotatedWith(Produces.class)) {
+            if (method.getParameterTypes().length == 0) {
+                entries.add(GeneratedClassIndex.PRODUCER + " " + method.getDeclaringClass().getName() + "#" + method.getName());
+            }
+        }
+        try {
+            Path absolute = file.toAbsolutePath();
+            if (absolute.getParent() != null) {
+                Files.createDirectories(absolute.getParent());
+            }
+            Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(FINGERPRINT + fingerprint + "\n");
+                for (String entry : entries) {
+                    writer.write(entry + "\n");
+                }
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Wrote class index cache {}", file);
+        } catch (IOException e) {
+            log.error("An error has occurred while writing the class index cache!", e);
+        }
+    }
+
+    /**
+     * Whether this index was loaded from the cache file, thus no classpath scan was performed.
+     *
+     * @return {@code true} if this index was loaded from the cache file
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return classIndex.getTypesAnnotatedWith(annotation);
+    }
+
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type) {
+        return classIndex.getSubTypesOf(type);
+    }
+
+    @Override
+    public Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return classIndex.getMethodsAnnotatedWith(annotation);
+    }
+}
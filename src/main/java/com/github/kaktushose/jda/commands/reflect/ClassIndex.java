@@ -0,0 +1,46 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Index of the classes the framework is interested in. The index is created once at startup and then shared by the
+ * {@link CommandRegistry}, the {@link ImplementationRegistry} and the
+ * {@link com.github.kaktushose.jda.commands.dependency.DependencyInjector DependencyInjector}, thus the classpath
+ * only needs to be scanned a single time.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see ReflectionsClassIndex
+ * @since 2.3.0
+ */
+public interface ClassIndex {
+
+    /**
+     * Gets all classes annotated with the given annotation.
+     *
+     * @param annotation the annotation to search for
+     * @return a possibly-empty {@link Set} of all annotated classes
+     */
+    Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation);
+
+    /**
+     * Gets all subtypes of the given type.
+     *
+     * @param type the type to get the subtypes of
+     * @param <T>  the type
+     * @return a possibly-empty {@link Set} of all subtypes
+     */
+    <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type);
+
+    /**
+     * Gets all methods annotated with the given annotation.
+     *
+     * @param annotation the annotation to search for
+     * @return a possibly-empty {@link Set} of all annotated methods
+     */
+    Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation);
+}
@@ -5,25 +5,23 @@ import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
 import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
 import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
 import org.jetbrains.annotations.NotNull;
-import org.reflections.Reflections;
-import org.reflections.scanners.SubTypesScanner;
-import org.reflections.scanners.TypeAnnotationsScanner;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
- * Central registry for all {@link CommandDefinition CommandDefinitions}.
+ * Central registry for all {@link CommandDefinition CommandDefinitions}. The getters return unmodifiable snapshots
+ * that are replaced whenever the registry changes, thus callers can detect changes by comparing the returned sets by
+ * identity.
+ *
+ * <p>Controllers can be registered and unregistered at runtime. Modifications are serialized and publish a new
+ * {@link Snapshot} holding both the controllers and the commands once they are complete, while readers never block.
+ * Dispatches that are already in progress keep working on the snapshot they started with.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class CommandRegistry {
@@ -32,8 +30,8 @@ public class CommandRegistry {
     private final TypeAdapterRegistry parameterRegistry;
     private final ValidatorRegistry validatorRegistry;
     private final DependencyInjector dependencyInjector;
-    private final Set<ControllerDefinition> controllers;
-    private final Set<CommandDefinition> commands;
+    private final Map<Class<?>, ControllerDefinition> controllers;
+    private volatile Snapshot snapshot;
 
     /**
      * Constructs a new CommandRegistry.
@@ -48,8 +46,8 @@ public class CommandRegistry {
         this.parameterRegistry = adapterRegistry;
         this.validatorRegistry = validatorRegistry;
         this.dependencyInjector = dependencyInjector;
-        controllers = new HashSet<>();
-        commands = new HashSet<>();
+        controllers = new LinkedHashMap<>();
+        snapshot = new Snapshot(Collections.emptySet(), Collections.emptySet());
     }
 
     /**
@@ -59,56 +57,191 @@ public class CommandRegistry {
      * @param clazz    a class of the classpath to scan
      */
     public void index(@NotNull Class<?> clazz, @NotNull String... packages) {
-        log.debug("Indexing controllers...");
+        index(new ReflectionsClassIndex(clazz, packages));
+    }
 
-        ConfigurationBuilder config = new ConfigurationBuilder()
-                .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner())
-                .setUrls(ClasspathHelper.forClass(clazz))
-                .filterInputsBy(new FilterBuilder().includePackage(packages));
-        Reflections reflections = new Reflections(config);
+    /**
+     * Registers all commands of the given {@link ClassIndex}. The {@link ControllerDefinition ControllerDefinitions}
+     * are built in parallel on the common fork-join pool and are merged in the order of the controller class names
+     * afterwards, thus the result doesn't depend on the thread scheduling.
+     *
+     * @param classIndex the {@link ClassIndex} to get the controllers from
+     */
+    public synchronized void index(@NotNull ClassIndex classIndex) {
+        log.debug("Indexing controllers...");
 
-        Set<Class<?>> controllerSet = reflections.getTypesAnnotatedWith(CommandController.class);
+        List<Class<?>> controllerClasses = new ArrayList<>(classIndex.getTypesAnnotatedWith(CommandController.class));
+        controllerClasses.sort(Comparator.comparing(Class::getName));
 
-        for (Class<?> aClass : controllerSet) {
+        List<Optional<ControllerDefinition>> definitions = controllerClasses.parallelStream().map(aClass -> {
             log.debug("Found controller {}", aClass.getName());
+            return ControllerDefinition.build(aClass, parameterRegistry, validatorRegistry, dependencyInjector);
+        }).collect(Collectors.toList());
 
-            Optional<ControllerDefinition> optional = ControllerDefinition.build(aClass,
-                    parameterRegistry,
-                    validatorRegistry,
-                    dependencyInjector
-            );
-
+        for (Optional<ControllerDefinition> optional : definitions) {
             if (!optional.isPresent()) {
                 log.warn("Unable to index the controller!");
                 continue;
             }
 
             ControllerDefinition controller = optional.get();
-            controllers.add(controller);
-            commands.addAll(controller.getSuperCommands());
-            commands.addAll(controller.getSubCommands());
+            controllers.put(controller.getControllerClass(), controller);
 
             log.debug("Registered controller {}", controller);
         }
 
-        log.debug("Successfully registered {} controller(s) with a total of {} command(s)!", controllers.size(), commands.size());
+        publish();
+
+        log.debug("Successfully registered {} controller(s) with a total of {} command(s)!", snapshot.getControllers().size(), snapshot.getCommands().size());
+    }
+
+    /**
+     * Registers a controller at runtime. Its dependencies get injected immediately. A controller that is already
+     * registered will be replaced. The controller is rejected if one of its labels is already used by a command of
+     * another controller.
+     *
+     * @param controllerClass the {@link Class} of the controller, must be annotated with {@link CommandController}
+     * @return {@code true} if the controller was registered
+     */
+    public synchronized boolean register(@NotNull Class<?> controllerClass) {
+        if (!controllerClass.isAnnotationPresent(CommandController.class)) {
+            log.error("Unable to register {}!", controllerClass.getName(),
+                    new IllegalArgumentException("Controller must be annotated with CommandController!"));
+            return false;
+        }
+
+        Set<String> labels = new HashSet<>();
+        controllers.forEach((aClass, controller) -> {
+            if (aClass != controllerClass) {
+                commandsOf(controller).forEach(command -> labels.addAll(command.getLabels()));
+            }
+        });
+
+        Optional<ControllerDefinition> optional = ControllerDefinition.build(controllerClass,
+                parameterRegistry,
+                validatorRegistry,
+                dependencyInjector
+        );
+        if (!optional.isPresent()) {
+            log.warn("Unable to register the controller!");
+            return false;
+        }
+        ControllerDefinition controller = optional.get();
+
+        for (CommandDefinition command : commandsOf(controller)) {
+            for (String label : command.getLabels()) {
+                if (labels.contains(label)) {
+                    dependencyInjector.unregisterDependencies(controller.getInstance());
+                    log.error("Unable to register {}!", controllerClass.getName(),
+                            new IllegalArgumentException(String.format("The label %s is already registered!", label)));
+                    return false;
+                }
+            }
+        }
+
+        dependencyInjector.inject(controller.getInstance());
+        ControllerDefinition previous = controllers.put(controllerClass, controller);
+        if (previous != null) {
+            dependencyInjector.unregisterDependencies(previous.getInstance());
+        }
+        publish();
+
+        log.debug("Registered controller {}", controller);
+        return true;
+    }
+
+    /**
+     * Unregisters a controller at runtime. Dispatches that are already in progress can still execute its commands.
+     *
+     * @param controllerClass the {@link Class} of the controller
+     * @return {@code true} if the controller was registered before
+     */
+    public synchronized boolean unregister(@NotNull Class<?> controllerClass) {
+        ControllerDefinition controller = controllers.remove(controllerClass);
+        if (controller == null) {
+            return false;
+        }
+        dependencyInjector.unregisterDependencies(controller.getInstance());
+        publish();
+
+        log.debug("Unregistered controller {}", controllerClass.getName());
+        return true;
     }
 
     /**
-     * Gets a list of all {@link ControllerDefinition ControllerDefinitions}.
+     * Gets the current {@link Snapshot} of the registry. The controllers and commands of a snapshot always belong
+     * together, thus a dispatch should obtain the snapshot once and use it for its whole execution.
+     *
+     * @return the current {@link Snapshot}
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets a list of all {@link ControllerDefinition ControllerDefinitions}. The same instance is returned until the
+     * registry changes.
      *
      * @return a list of all {@link ControllerDefinition ControllerDefinitions}
      */
     public Set<ControllerDefinition> getControllers() {
-        return Collections.unmodifiableSet(controllers);
+        return snapshot.getControllers();
     }
 
     /**
-     * Gets a list of all {@link CommandDefinition CommandDefinitions}.
+     * Gets a list of all {@link CommandDefinition CommandDefinitions}. The same instance is returned until the
+     * registry changes.
      *
      * @return a list of all {@link CommandDefinition CommandDefinitions}
      */
     public Set<CommandDefinition> getCommands() {
-        return Collections.unmodifiableSet(commands);
+        return snapshot.getCommands();
+    }
+
+    private void publish() {
+        Set<CommandDefinition> commands = new HashSet<>();
+        controllers.values().forEach(controller -> commands.addAll(commandsOf(controller)));
+        snapshot = new Snapshot(
+                Collections.unmodifiableSet(new HashSet<>(controllers.values())),
+                Collections.unmodifiableSet(commands)
+        );
+    }
+
+    private List<CommandDefinition> commandsOf(ControllerDefinition controller) {
+        List<CommandDefinition> commands = new ArrayList<>(controller.getSuperCommands());
+        commands.addAll(controller.getSubCommands());
+        return commands;
+    }
+
+    /**
+     * Immutable view of the registry at one point in time.
+     */
+    public static final class Snapshot {
+
+        private final Set<ControllerDefinition> controllers;
+        private final Set<CommandDefinition> commands;
+
+        private Snapshot(Set<ControllerDefinition> controllers, Set<CommandDefinition> commands) {
+            this.controllers = controllers;
+            this.commands = commands;
+        }
+
+        /**
+         * Gets an unmodifiable set of all {@link ControllerDefinition ControllerDefinitions} of this snapshot.
+         *
+         * @return an unmodifiable set of all {@link ControllerDefinition ControllerDefinitions}
+         */
+        public Set<ControllerDefinition> getControllers() {
+            return controllers;
+        }
+
+        /**
+         * Gets an unmodifiable set of all {@link CommandDefinition CommandDefinitions} of this snapshot.
+         *
+         * @return an unmodifiable set of all {@link CommandDefinition CommandDefinitions}
+         */
+        public Set<CommandDefinition> getCommands() {
+            return commands;
+        }
     }
 }
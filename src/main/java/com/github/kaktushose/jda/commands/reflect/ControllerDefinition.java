@@ -19,17 +19,23 @@ import java.util.*;
  * Representation of a command controller.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public class ControllerDefinition {
 
     private static final Logger log = LoggerFactory.getLogger(ControllerDefinition.class);
+    private final Class<?> controllerClass;
+    private final Object instance;
     private final List<CommandDefinition> superCommands;
     private final List<CommandDefinition> subCommands;
 
-    private ControllerDefinition(List<CommandDefinition> superCommands,
+    private ControllerDefinition(Class<?> controllerClass,
+                                 Object instance,
+                                 List<CommandDefinition> superCommands,
                                  List<CommandDefinition> subCommands) {
+        this.controllerClass = controllerClass;
+        this.instance = instance;
         this.superCommands = superCommands;
         this.subCommands = subCommands;
     }
@@ -88,7 +94,11 @@ public class ControllerDefinition {
         // index commands
         List<CommandDefinition> superCommands = new ArrayList<>();
         List<CommandDefinition> subCommands = new ArrayList<>();
-        for (Method method : controllerClass.getDeclaredMethods()) {
+        Set<String> subCommandLabels = new HashSet<>();
+        // getDeclaredMethods has no defined order, sort to keep label conflicts deterministic
+        Method[] methods = controllerClass.getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName).thenComparing(Method::toGenericString));
+        for (Method method : methods) {
             Optional<CommandDefinition> optional = CommandDefinition.build(method, instance, adapterRegistry, validatorRegistry);
 
             if (!optional.isPresent()) {
@@ -100,9 +110,9 @@ public class ControllerDefinition {
             commandDefinition.getPermissions().addAll(permissions);
 
             // TODO remove once command overloading is working
-            if (subCommands.stream().flatMap(command -> command.getLabels().stream()).anyMatch(commandDefinition.getLabels()::contains)) {
+            if (commandDefinition.getLabels().stream().anyMatch(subCommandLabels::contains)) {
                 log.error("An error has occurred! Skipping Command {}.{}!",
-                        commandController.getClass().getName(),
+                        controllerClass.getName(),
                         commandDefinition.getMethod().getName(),
                         new IllegalArgumentException("The labels for the command are already registered!")
                 );
@@ -118,6 +128,7 @@ public class ControllerDefinition {
                 continue;
             }
             subCommands.add(commandDefinition);
+            subCommandLabels.addAll(commandDefinition.getLabels());
         }
 
         // if we only have one sub command and no super commands make it implicit a super command
@@ -128,12 +139,30 @@ public class ControllerDefinition {
             subCommands.clear();
         }
 
-        ControllerDefinition controller = new ControllerDefinition(superCommands, subCommands);
+        ControllerDefinition controller = new ControllerDefinition(controllerClass, instance, superCommands, subCommands);
         controller.getSuperCommands().forEach(definition -> definition.setController(controller));
         controller.getSubCommands().forEach(definition -> definition.setController(controller));
         return Optional.of(controller);
     }
 
+    /**
+     * Gets the {@link Class} of the controller.
+     *
+     * @return the {@link Class} of the controller
+     */
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    /**
+     * Gets the instance of the controller.
+     *
+     * @return the instance of the controller
+     */
+    public Object getInstance() {
+        return instance;
+    }
+
     /**
      * Whether this controller has super commands.
      *
@@ -0,0 +1,207 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.*;
+
+/**
+ * Implementation of {@link ClassIndex} that loads the index generated at compile time by the
+ * {@link com.github.kaktushose.jda.commands.processing.ClassIndexProcessor ClassIndexProcessor}, thus no classpath
+ * scanning is needed at runtime. The index is a plain text resource located at {@value RESOURCE}. Each line consists
+ * of a kind and a binary class name, producer methods are appended to the class name separated by {@code #}:
+ * <pre>
+ * controller com.example.PingController
+ * component com.example.CustomSettingsProvider
+ * producer com.example.Producers#database
+ * </pre>
+ * Only the index located next to the classes of the application is used, indexes of dependencies are ignored.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see com.github.kaktushose.jda.commands.processing.ClassIndexProcessor ClassIndexProcessor
+ * @since 2.3.0
+ */
+public class GeneratedClassIndex implements ClassIndex {
+
+    /**
+     * The location of the generated index.
+     */
+    public static final String RESOURCE = "META-INF/jda-commands/class.index";
+    /**
+     * Kind of classes annotated with {@link com.github.kaktushose.jda.commands.annotations.CommandController}.
+     */
+    public static final String CONTROLLER = "controller";
+    /**
+     * Kind of classes annotated with {@link com.github.kaktushose.jda.commands.annotations.Component}.
+     */
+    public static final String COMPONENT = "component";
+    /**
+     * Kind of methods annotated with {@link com.github.kaktushose.jda.commands.annotations.Produces}.
+     */
+    public static final String PRODUCER = "producer";
+    private static final Logger log = LoggerFactory.getLogger(GeneratedClassIndex.class);
+    private final Set<Class<?>> types;
+    private final Set<Method> methods;
+
+    private GeneratedClassIndex(Set<Class<?>> types, Set<Method> methods) {
+        this.types = types;
+        this.methods = methods;
+    }
+
+    /**
+     * Loads the generated index located in the same code source, i.e. the same jar or class directory, as the given
+     * class. Indexes of other code sources, e.g. of dependencies, are ignored, because they don't list the classes of
+     * the application.
+     *
+     * @param clazz    a class of the application to load the index for
+     * @param packages package(s) to exclusively include. If empty, all classes are included
+     * @return an {@link Optional} holding the {@link GeneratedClassIndex} or an empty {@link Optional} if the code
+     * source of the class has no index
+     */
+    public static Optional<GeneratedClassIndex> load(@NotNull Class<?> clazz, @NotNull String... packages) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null || clazz.getClassLoader() == null) {
+            log.debug("Unable to determine the code source of {}", clazz.getName());
+            return Optional.empty();
+        }
+        ClassLoader classLoader = clazz.getClassLoader();
+        Enumeration<URL> resources;
+        try {
+            resources = classLoader.getResources(RESOURCE);
+        } catch (IOException e) {
+            log.error("An error has occurred while looking up the class index!", e);
+            return Optional.empty();
+        }
+        String location = codeSource.getLocation().toExternalForm();
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            if (!isLocatedIn(url, location)) {
+                log.debug("Ignoring class index {} of another code source", url);
+                continue;
+            }
+            log.debug("Loading class index {}", url);
+            try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                return Optional.of(load(reader, classLoader, packages));
+            } catch (IOException e) {
+                log.error("An error has occurred while loading the class index!", e);
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isLocatedIn(URL resource, String location) {
+        String url = resource.toExternalForm();
+        // class directories resolve the resource directly, jars use the jar:<location>!/<resource> scheme
+        return url.equals(location + RESOURCE) || url.equals("jar:" + location + "!/" + RESOURCE);
+    }
+
+    static GeneratedClassIndex load(Reader reader, ClassLoader classLoader, String... packages) throws IOException {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Set<Method> methods = new LinkedHashSet<>();
+        read(reader, classLoader, packages, types, methods);
+        return new GeneratedClassIndex(types, methods);
+    }
+
+    private static void read(Reader reader, ClassLoader classLoader, String[] packages,
+                             Set<Class<?>> types, Set<Method> methods) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+", 2);
+            if (parts.length != 2) {
+                log.warn("Skipping malformed class index entry {}", line);
+                continue;
+            }
+            String name = parts[1];
+            int separator = name.indexOf('#');
+            String className = separator < 0 ? name : name.substring(0, separator);
+            if (!isIncluded(className, packages)) {
+                continue;
+            }
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Skipping class index entry {}, the class cannot be loaded", line);
+                continue;
+            }
+            switch (parts[0]) {
+                case CONTROLLER:
+                case COMPONENT:
+                    types.add(clazz);
+                    break;
+                case PRODUCER:
+                    try {
+                        methods.add(clazz.getDeclaredMethod(name.substring(separator + 1)));
+                    } catch (NoSuchMethodException | IndexOutOfBoundsException e) {
+                        log.warn("Skipping class index entry {}, the method cannot be found", line);
+                    }
+                    break;
+                default:
+                    log.warn("Skipping class index entry {}, unknown kind", line);
+            }
+        }
+    }
+
+    private static boolean isIncluded(String className, String[] packages) {
+        if (packages.length == 0) {
+            return true;
+        }
+        for (String name : packages) {
+            if (className.startsWith(name + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            if (type.isAnnotationPresent(annotation)) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type) {
+        Set<Class<? extends T>> result = new LinkedHashSet<>();
+        for (Class<?> clazz : types) {
+            if (clazz != type && type.isAssignableFrom(clazz)) {
+                result.add((Class<? extends T>) clazz);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        Set<Method> result = new LinkedHashSet<>();
+        for (Method method : methods) {
+            if (method.isAnnotationPresent(annotation)) {
+                result.add(method);
+            }
+        }
+        return result;
+    }
+}
@@ -23,11 +23,6 @@ import com.github.kaktushose.jda.commands.permissions.PermissionsProvider;
 import com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider;
 import com.github.kaktushose.jda.commands.settings.SettingsProvider;
 import org.jetbrains.annotations.NotNull;
-import org.reflections.Reflections;
-import org.reflections.scanners.SubTypesScanner;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,14 +48,13 @@ import java.util.*;
  * </ul>
  *
  * @author Kaktushose
- * @version 2.2.0
+ * @version 2.3.0
  * @see Component
  * @since 2.0.0
  */
 public class ImplementationRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(ImplementationRegistry.class);
-    private static Reflections reflections;
     private final DependencyInjector dependencyInjector;
     private final FilterRegistry filterRegistry;
     private final TypeAdapterRegistry typeAdapterRegistry;
@@ -104,23 +98,27 @@ public class ImplementationRegistry {
      * @param clazz    a class of the classpath to scan
      */
     public void index(@NotNull Class<?> clazz, @NotNull String... packages) {
+        index(new ReflectionsClassIndex(clazz, packages));
+    }
+
+    /**
+     * Registers all custom implementations of the given {@link ClassIndex}.
+     *
+     * @param classIndex the {@link ClassIndex} to get the implementations from
+     */
+    public void index(@NotNull ClassIndex classIndex) {
         log.debug("Indexing custom implementations...");
-        ConfigurationBuilder config = new ConfigurationBuilder()
-                .setScanners(new SubTypesScanner())
-                .setUrls(ClasspathHelper.forClass(clazz))
-                .filterInputsBy(new FilterBuilder().includePackage(packages));
-        reflections = new Reflections(config);
-
-        findImplementation(SettingsProvider.class).ifPresent(this::setSettingsProvider);
-        findImplementation(PermissionsProvider.class).ifPresent(this::setPermissionsProvider);
-        findImplementation(HelpMessageFactory.class).ifPresent(this::setHelpMessageFactory);
-        findImplementation(ErrorMessageFactory.class).ifPresent(this::setErrorMessageFactory);
-        findImplementation(Router.class).ifPresent(this::setRouter);
-        findImplementation(MessageSender.class).ifPresent(this::setMessageSender);
-
-        findFilters().forEach(filterRegistry::register);
-        findAdapters().forEach(typeAdapterRegistry::register);
-        findValidators().forEach(validatorRegistry::register);
+
+        findImplementation(classIndex, SettingsProvider.class).ifPresent(this::setSettingsProvider);
+        findImplementation(classIndex, PermissionsProvider.class).ifPresent(this::setPermissionsProvider);
+        findImplementation(classIndex, HelpMessageFactory.class).ifPresent(this::setHelpMessageFactory);
+        findImplementation(classIndex, ErrorMessageFactory.class).ifPresent(this::setErrorMessageFactory);
+        findImplementation(classIndex, Router.class).ifPresent(this::setRouter);
+        findImplementation(classIndex, MessageSender.class).ifPresent(this::setMessageSender);
+
+        findFilters(classIndex).forEach(filterRegistry::register);
+        findAdapters(classIndex).forEach(typeAdapterRegistry::register);
+        findValidators(classIndex).forEach(validatorRegistry::register);
     }
 
     /**
@@ -232,9 +230,9 @@ public class ImplementationRegistry {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> Optional<T> findImplementation(Class<T> type) {
+    private <T> Optional<T> findImplementation(ClassIndex classIndex, Class<T> type) {
         T instance = null;
-        for (Class<?> clazz : reflections.getSubTypesOf(type)) {
+        for (Class<?> clazz : classIndex.getSubTypesOf(type)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -259,9 +257,9 @@ public class ImplementationRegistry {
         return Optional.ofNullable(instance);
     }
 
-    private Map<Filter, FilterRegistry.FilterPosition> findFilters() {
+    private Map<Filter, FilterRegistry.FilterPosition> findFilters(ClassIndex classIndex) {
         Map<Filter, FilterRegistry.FilterPosition> result = new HashMap<>();
-        for (Class<? extends Filter> clazz : reflections.getSubTypesOf(Filter.class)) {
+        for (Class<? extends Filter> clazz : classIndex.getSubTypesOf(Filter.class)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -288,9 +286,9 @@ public class ImplementationRegistry {
     }
 
     @SuppressWarnings("rawtypes")
-    private Map<Class<?>, TypeAdapter<?>> findAdapters() {
+    private Map<Class<?>, TypeAdapter<?>> findAdapters(ClassIndex classIndex) {
         Map<Class<?>, TypeAdapter<?>> result = new HashMap<>();
-        for (Class<? extends TypeAdapter> clazz : reflections.getSubTypesOf(TypeAdapter.class)) {
+        for (Class<? extends TypeAdapter> clazz : classIndex.getSubTypesOf(TypeAdapter.class)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
@@ -329,9 +327,9 @@ public class ImplementationRegistry {
         return result;
     }
 
-    private Map<Class<? extends Annotation>, Validator> findValidators() {
+    private Map<Class<? extends Annotation>, Validator> findValidators(ClassIndex classIndex) {
         Map<Class<? extends Annotation>, Validator> result = new HashMap<>();
-        for (Class<? extends Validator> clazz : reflections.getSubTypesOf(Validator.class)) {
+        for (Class<? extends Validator> clazz : classIndex.getSubTypesOf(Validator.class)) {
             if (!clazz.isAnnotationPresent(Component.class)) {
                 continue;
             }
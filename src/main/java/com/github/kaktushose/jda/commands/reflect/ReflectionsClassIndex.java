@@ -0,0 +1,61 @@
+package com.github.kaktushose.jda.commands.reflect;
+
+import org.jetbrains.annotations.NotNull;
+import org.reflections.Reflections;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Implementation of {@link ClassIndex} that scans the classpath with {@link Reflections}. All scanners run in a
+ * single pass, thus every class file is only read once.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see ClassIndex
+ * @since 2.3.0
+ */
+public class ReflectionsClassIndex implements ClassIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ReflectionsClassIndex.class);
+    private final Reflections reflections;
+
+    /**
+     * Constructs a new ReflectionsClassIndex and scans the classpath.
+     *
+     * @param clazz    a class of the classpath to scan
+     * @param packages package(s) to exclusively scan
+     */
+    public ReflectionsClassIndex(@NotNull Class<?> clazz, @NotNull String... packages) {
+        log.debug("Scanning classpath...");
+        ConfigurationBuilder config = new ConfigurationBuilder()
+                .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner(), new MethodAnnotationsScanner())
+                .setUrls(ClasspathHelper.forClass(clazz))
+                .filterInputsBy(new FilterBuilder().includePackage(packages));
+        reflections = new Reflections(config);
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return reflections.getTypesAnnotatedWith(annotation);
+    }
+
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type) {
+        return reflections.getSubTypesOf(type);
+    }
+
+    @Override
+    public Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return reflections.getMethodsAnnotatedWith(annotation);
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.kaktushose.jda.commands.reload;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches files for modifications using a {@link WatchService} and runs the registered callbacks once a file has
+ * changed. Events are collected for a short quiet period before the callbacks are run, thus a file that is written in
+ * multiple steps or replaced by a rename only triggers one reload.
+ *
+ * <p>The callbacks run on the watcher thread, never on a dispatch thread. They should re-read the file and swap the
+ * changed values, e.g. by calling {@link com.github.kaktushose.jda.commands.embeds.EmbedCache#reload()
+ * EmbedCache#reload()} or {@link com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider#reload(Path)
+ * DefaultSettingsProvider#reload(Path)}.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class FileWatcher implements Closeable {
+
+    /**
+     * The default quiet period in milliseconds.
+     */
+    public static final long DEFAULT_QUIET_PERIOD = 200;
+    private static final Logger log = LoggerFactory.getLogger(FileWatcher.class);
+    private final WatchService watchService;
+    private final Map<Path, List<Runnable>> callbacks;
+    private final Set<Path> directories;
+    private final long quietPeriod;
+    private final Thread thread;
+
+    /**
+     * Constructs a new FileWatcher using the {@link #DEFAULT_QUIET_PERIOD}.
+     *
+     * @throws IOException if the {@link WatchService} cannot be created
+     */
+    public FileWatcher() throws IOException {
+        this(DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Constructs a new FileWatcher.
+     *
+     * @param quietPeriod the time in milliseconds to wait for further events before running the callbacks
+     * @throws IOException if the {@link WatchService} cannot be created
+     */
+    public FileWatcher(long quietPeriod) throws IOException {
+        this.quietPeriod = quietPeriod;
+        watchService = FileSystems.getDefault().newWatchService();
+        callbacks = new ConcurrentHashMap<>();
+        directories = ConcurrentHashMap.newKeySet();
+        thread = new Thread(this::run, "FileWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Registers a callback that runs every time the given file changes.
+     *
+     * @param file     the file to watch
+     * @param callback the callback to run
+     * @return this instance
+     * @throws IOException if the directory of the file cannot be watched
+     */
+    public FileWatcher watch(@NotNull Path file, @NotNull Runnable callback) throws IOException {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path directory = absolute.getParent();
+        if (directories.add(directory)) {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        callbacks.computeIfAbsent(absolute, key -> new CopyOnWriteArrayList<>()).add(callback);
+        log.debug("Watching file {}", absolute);
+        return this;
+    }
+
+    /**
+     * Stops watching all files.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.error("An error has occurred while closing the watch service!", e);
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(watchService.take(), changed);
+                // wait until the files are quiet
+                WatchKey key;
+                while ((key = watchService.poll(quietPeriod, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+                for (Path path : changed) {
+                    for (Runnable callback : callbacks.getOrDefault(path, Collections.emptyList())) {
+                        try {
+                            callback.run();
+                        } catch (Exception e) {
+                            log.error("An error has occurred while reloading " + path, e);
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("File watcher stopped");
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // events got lost, reload everything inside this directory
+                callbacks.keySet().stream().filter(path -> path.getParent().equals(directory)).forEach(changed::add);
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (callbacks.containsKey(path)) {
+                changed.add(path);
+            }
+        }
+        key.reset();
+    }
+}
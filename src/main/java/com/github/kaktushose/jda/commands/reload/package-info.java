@@ -0,0 +1,4 @@
+/**
+ * Hot-reloading of settings, embeds and repositories from watched files.
+ */
+package com.github.kaktushose.jda.commands.reload;
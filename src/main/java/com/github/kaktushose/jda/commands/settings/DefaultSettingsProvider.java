@@ -1,12 +1,19 @@
 package com.github.kaktushose.jda.commands.settings;
 
+import com.github.kaktushose.jda.commands.data.LongSet;
 import net.dv8tion.jda.api.entities.Guild;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Default implementation of {@link SettingsProvider}. This implementation works on a global level and doesn't support
@@ -14,56 +21,87 @@ import java.util.Properties;
  * folder.
  *
  * @author Kaktushose
- * @version 2.0.0
+ * @version 2.3.0
  * @see SettingsProvider
  * @since 2.0.0
  */
 public class DefaultSettingsProvider implements SettingsProvider {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultSettingsProvider.class);
-    private final GuildSettings settings;
+    private volatile GuildSettings settings;
 
     /**
      * Constructs a new DefaultSettingsProvider. If present, attempts to load values from the <em>jdac.properties</em>
      * file, else will use the same default values as {@link GuildSettings#GuildSettings}
      */
     public DefaultSettingsProvider() {
-        settings = new GuildSettings();
         try {
             Properties properties = new Properties();
             properties.load(DefaultSettingsProvider.class.getClassLoader().getResourceAsStream("jdac.properties"));
+            settings = parse(properties);
+            log.debug("Loaded settings from jdac.properties file");
+        } catch (IOException | NullPointerException ignored) {
+            settings = new GuildSettings();
+            log.debug("No jdac.properties file found, using default values");
+        }
+    }
 
-            settings.setPrefix(properties.getProperty("prefix", "!"));
-            settings.setIgnoreCase(Boolean.parseBoolean(properties.getProperty("ignoreCase", "true")));
-            settings.setIgnoreBots(Boolean.parseBoolean(properties.getProperty("ignoreBots", "true")));
-            settings.setParseQuotes(Boolean.parseBoolean(properties.getProperty("parseQuotes", "true")));
-            settings.setMaxDistance(Integer.parseInt(properties.getProperty("maxDistance", "3")));
+    /**
+     * Reloads the settings from the given properties file. The settings are only replaced if they have actually
+     * changed. The replacement is atomic, thus messages that are currently dispatched keep using the old settings.
+     *
+     * @param file the properties file to load the settings from
+     * @return {@code true} if the settings have changed
+     */
+    public boolean reload(@NotNull Path file) {
+        Properties properties = new Properties();
+        try (InputStream stream = Files.newInputStream(file)) {
+            properties.load(stream);
+        } catch (IOException e) {
+            log.error("An error has occurred while reloading the settings!", e);
+            return false;
+        }
+        GuildSettings reloaded = parse(properties);
+        if (reloaded.getSnapshot().equals(settings.getSnapshot())) {
+            log.debug("Settings didn't change");
+            return false;
+        }
+        settings = reloaded;
+        log.info("Reloaded settings from {}", file);
+        return true;
+    }
 
-            String helpLabels = properties.getProperty("helpLabels", "help");
-            String[] labels = helpLabels.split(", ");
-            settings.getHelpLabels().clear();
-            for (String label : labels) {
-                settings.getHelpLabels().add(label.trim());
-            }
+    private GuildSettings parse(Properties properties) {
+        GuildSettings settings = new GuildSettings();
+        settings.setPrefix(properties.getProperty("prefix", "!"));
+        settings.setIgnoreCase(Boolean.parseBoolean(properties.getProperty("ignoreCase", "true")));
+        settings.setIgnoreBots(Boolean.parseBoolean(properties.getProperty("ignoreBots", "true")));
+        settings.setParseQuotes(Boolean.parseBoolean(properties.getProperty("parseQuotes", "true")));
+        settings.setMaxDistance(Integer.parseInt(properties.getProperty("maxDistance", "3")));
 
-            String mutedChannels = properties.getProperty("mutedChannels", "");
-            String[] channels = mutedChannels.split(", ");
-            settings.getMutedChannels().clear();
-            for (String channel : channels) {
-                if (channel.isEmpty()) {
-                    continue;
-                }
-                try {
-                    settings.getMutedChannels().add(Long.parseLong(channel.trim()));
-                } catch (NumberFormatException e) {
-                    log.error(String.format("Cannot parse %s to long", channel), e);
-                }
-            }
+        String helpLabels = properties.getProperty("helpLabels", "help");
+        String[] labels = helpLabels.split(", ");
+        Set<String> parsedLabels = new HashSet<>();
+        for (String label : labels) {
+            parsedLabels.add(label.trim());
+        }
+        settings.setHelpLabels(parsedLabels);
 
-            log.debug("Loaded settings from jdac.properties file");
-        } catch (IOException | NullPointerException ignored) {
-            log.debug("No jdac.properties file found, using default values");
+        String mutedChannels = properties.getProperty("mutedChannels", "");
+        String[] channels = mutedChannels.split(", ");
+        LongSet parsedChannels = new LongSet();
+        for (String channel : channels) {
+            if (channel.isEmpty()) {
+                continue;
+            }
+            try {
+                parsedChannels.add(Long.parseLong(channel.trim()));
+            } catch (NumberFormatException e) {
+                log.error(String.format("Cannot parse %s to long", channel), e);
+            }
         }
+        settings.setMutedChannels(parsedChannels);
+        return settings;
     }
 
     @Override
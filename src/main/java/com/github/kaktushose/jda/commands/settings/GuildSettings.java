@@ -1,17 +1,20 @@
 package com.github.kaktushose.jda.commands.settings;
 
+import com.github.kaktushose.jda.commands.data.LongSet;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
- * Container for all command execution settings.
+ * Container for all command execution settings. This class is mutable and shouldn't be read on the hot path. Instead,
+ * use {@link #getSnapshot()} to obtain an immutable {@link SettingsSnapshot} that is safe for concurrent reads. Every
+ * modification builds a new snapshot while holding the monitor of this instance and then publishes it atomically. This
+ * includes modifications of the sets returned by {@link #getHelpLabels()} and {@link #getMutedChannels()}.
  *
  * @author Kaktushose
- * @version 2.0.0
- * @see GuildSettings
+ * @version 2.3.0
+ * @see SettingsSnapshot
  * @since 2.0.0
  */
 public class GuildSettings {
@@ -22,9 +25,10 @@ public class GuildSettings {
     private boolean ignoreBots;
     private boolean parseQuotes;
     private Set<String> helpLabels;
-    private Set<Long> mutedChannels;
+    private LongSet mutedChannels;
     private boolean isMutedGuild;
     private int maxDistance;
+    private transient volatile SettingsSnapshot snapshot;
 
     /**
      * Constructs a new GuildSettings object with the following default values.
@@ -48,7 +52,7 @@ public class GuildSettings {
                 new HashSet<String>() {{
                     add("help");
                 }},
-                new HashSet<>(),
+                new LongSet(),
                 false,
                 3
         );
@@ -82,10 +86,11 @@ public class GuildSettings {
         this.ignoreCase = ignoreCase;
         this.ignoreBots = ignoreBots;
         this.parseQuotes = parseQuotes;
-        this.helpLabels = helpLabels;
-        this.mutedChannels = mutedChannels;
+        this.helpLabels = new HashSet<>(helpLabels);
+        this.mutedChannels = new LongSet(mutedChannels);
         this.isMutedGuild = isMutedGuild;
         this.maxDistance = maxDistance;
+        publish();
     }
 
     /**
@@ -97,8 +102,15 @@ public class GuildSettings {
         return guildId;
     }
 
-    public GuildSettings setGuildId(long guildId) {
+    /**
+     * Sets the guild id.
+     *
+     * @param guildId the guild id
+     * @return this instance
+     */
+    public synchronized GuildSettings setGuildId(long guildId) {
         this.guildId = guildId;
+        publish();
         return this;
     }
 
@@ -117,8 +129,9 @@ public class GuildSettings {
      * @param prefix the new prefix
      * @return this instance
      */
-    public GuildSettings setPrefix(@NotNull String prefix) {
+    public synchronized GuildSettings setPrefix(@NotNull String prefix) {
         this.prefix = prefix;
+        publish();
         return this;
     }
 
@@ -137,8 +150,9 @@ public class GuildSettings {
      * @param ignoreCase {@code true} if the case should be ignored
      * @return this instance
      */
-    public GuildSettings setIgnoreCase(boolean ignoreCase) {
+    public synchronized GuildSettings setIgnoreCase(boolean ignoreCase) {
         this.ignoreCase = ignoreCase;
+        publish();
         return this;
     }
 
@@ -157,8 +171,9 @@ public class GuildSettings {
      * @param ignoreBots {@code true} if  bot accounts should be ignored
      * @return this instance
      */
-    public GuildSettings setIgnoreBots(boolean ignoreBots) {
+    public synchronized GuildSettings setIgnoreBots(boolean ignoreBots) {
         this.ignoreBots = ignoreBots;
+        publish();
         return this;
     }
 
@@ -177,48 +192,109 @@ public class GuildSettings {
      * @param parseQuotes {@code true} if quotes should be parsed
      * @return this instance
      */
-    public GuildSettings setParseQuotes(boolean parseQuotes) {
+    public synchronized GuildSettings setParseQuotes(boolean parseQuotes) {
         this.parseQuotes = parseQuotes;
+        publish();
         return this;
     }
 
     /**
-     * Gets a set of all help labels.
+     * Gets a set of all help labels. The returned set is a view, every modification of it publishes a new
+     * {@link SettingsSnapshot}. Use {@link SettingsSnapshot#getHelpLabels()} for read-only access.
      *
      * @return a set of all help labels
      */
     public Set<String> getHelpLabels() {
+        return new PublishingSet<>(() -> helpLabels);
+    }
+
+    Set<String> helpLabels() {
         return helpLabels;
     }
 
+    /**
+     * Adds a help label.
+     *
+     * @param label the help label to add
+     * @return this instance
+     */
+    public synchronized GuildSettings addHelpLabel(@NotNull String label) {
+        helpLabels.add(label);
+        publish();
+        return this;
+    }
+
+    /**
+     * Removes a help label.
+     *
+     * @param label the help label to remove
+     * @return this instance
+     */
+    public synchronized GuildSettings removeHelpLabel(@NotNull String label) {
+        helpLabels.remove(label);
+        publish();
+        return this;
+    }
+
     /**
      * Sets the help labels.
      *
      * @param helpLabels a set of help labels
      * @return this instance
      */
-    public GuildSettings setHelpLabels(@NotNull Collection<String> helpLabels) {
+    public synchronized GuildSettings setHelpLabels(@NotNull Collection<String> helpLabels) {
         this.helpLabels = new HashSet<>(helpLabels);
+        publish();
         return this;
     }
 
     /**
-     * Gets a set of muted channel ids.
+     * Gets a set of muted channel ids. The returned set is a view, every modification of it publishes a new
+     * {@link SettingsSnapshot}. Use {@link SettingsSnapshot#isMutedChannel(long)} for read-only access.
      *
      * @return a set of muted channel ids
      */
     public Set<Long> getMutedChannels() {
+        return new PublishingSet<>(() -> mutedChannels);
+    }
+
+    LongSet mutedChannels() {
         return mutedChannels;
     }
 
+    /**
+     * Mutes a channel.
+     *
+     * @param channelId the id of the channel to mute
+     * @return this instance
+     */
+    public synchronized GuildSettings addMutedChannel(long channelId) {
+        mutedChannels.add(channelId);
+        publish();
+        return this;
+    }
+
+    /**
+     * Unmutes a channel.
+     *
+     * @param channelId the id of the channel to unmute
+     * @return this instance
+     */
+    public synchronized GuildSettings removeMutedChannel(long channelId) {
+        mutedChannels.remove(channelId);
+        publish();
+        return this;
+    }
+
     /**
      * Sets the muted channels.
      *
      * @param mutedChannels a set of muted channel ids
      * @return this instance
      */
-    public GuildSettings setMutedChannels(@NotNull Collection<Long> mutedChannels) {
-        this.mutedChannels = new HashSet<>(mutedChannels);
+    public synchronized GuildSettings setMutedChannels(@NotNull Collection<Long> mutedChannels) {
+        this.mutedChannels = new LongSet(mutedChannels);
+        publish();
         return this;
     }
 
@@ -237,8 +313,9 @@ public class GuildSettings {
      * @param mutedGuild {@code true} if this guild should be ignored
      * @return this instance
      */
-    public GuildSettings setMutedGuild(boolean mutedGuild) {
+    public synchronized GuildSettings setMutedGuild(boolean mutedGuild) {
         isMutedGuild = mutedGuild;
+        publish();
         return this;
     }
 
@@ -257,11 +334,39 @@ public class GuildSettings {
      * @param maxDistance the maximal Levenshtein distance to use when routing commands
      * @return this instance
      */
-    public GuildSettings setMaxDistance(int maxDistance) {
+    public synchronized GuildSettings setMaxDistance(int maxDistance) {
         this.maxDistance = maxDistance;
+        publish();
         return this;
     }
 
+    /**
+     * Gets the current {@link SettingsSnapshot}. Every modification builds a new snapshot and publishes it atomically,
+     * thus this method never returns a stale or partially updated snapshot. Fields written without a setter, e.g. by
+     * Gson's reflective deserialization, aren't picked up. Use the
+     * {@link com.github.kaktushose.jda.commands.data.impl.GuildSettingsTypeAdapter GuildSettingsTypeAdapter} to
+     * deserialize instances.
+     *
+     * @return the current {@link SettingsSnapshot}
+     */
+    public SettingsSnapshot getSnapshot() {
+        SettingsSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // only instances allocated without running a constructor have no snapshot yet
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = new SettingsSnapshot(this);
+            }
+            return snapshot;
+        }
+    }
+
+    private void publish() {
+        snapshot = new SettingsSnapshot(this);
+    }
+
     @Override
     public String toString() {
         return "GuildSettings{" +
@@ -276,4 +381,90 @@ public class GuildSettings {
                 ", maxDistance=" + maxDistance +
                 '}';
     }
+
+    /**
+     * View of a collection field that holds the monitor of the settings on every access and publishes a new snapshot
+     * after every modification. Iterators work on a copy, thus iterating never conflicts with concurrent modifications.
+     */
+    private class PublishingSet<E> extends AbstractSet<E> {
+
+        private final Supplier<Set<E>> delegate;
+
+        private PublishingSet(Supplier<Set<E>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            List<E> copy;
+            synchronized (GuildSettings.this) {
+                copy = new ArrayList<>(delegate.get());
+            }
+            Iterator<E> iterator = copy.iterator();
+            return new Iterator<E>() {
+                private E current;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    current = iterator.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    PublishingSet.this.remove(current);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            synchronized (GuildSettings.this) {
+                return delegate.get().size();
+            }
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            synchronized (GuildSettings.this) {
+                return delegate.get().contains(o);
+            }
+        }
+
+        @Override
+        public boolean add(E e) {
+            synchronized (GuildSettings.this) {
+                boolean changed = delegate.get().add(e);
+                if (changed) {
+                    publish();
+                }
+                return changed;
+            }
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            synchronized (GuildSettings.this) {
+                boolean changed = delegate.get().remove(o);
+                if (changed) {
+                    publish();
+                }
+                return changed;
+            }
+        }
+
+        @Override
+        public void clear() {
+            synchronized (GuildSettings.this) {
+                delegate.get().clear();
+                publish();
+            }
+        }
+    }
 }
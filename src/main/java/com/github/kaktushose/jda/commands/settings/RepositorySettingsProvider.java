@@ -0,0 +1,320 @@
+package com.github.kaktushose.jda.commands.settings;
+
+import com.github.kaktushose.jda.commands.data.JsonRepository;
+import com.github.kaktushose.jda.commands.data.LongSet;
+import com.github.kaktushose.jda.commands.data.Repository;
+import net.dv8tion.jda.api.entities.Guild;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of {@link SettingsProvider} that supports guild specific settings. The {@link GuildSettings} are
+ * loaded from a {@link Repository} and kept in a size-bounded cache, thus a message only hits the storage if the
+ * settings of its guild aren't cached yet. Guilds without stored settings will fall back to the default settings.
+ *
+ * <p>Reads are served from the cache without any locking. Storage access, that is loading on a cache miss and
+ * writing through on {@link #updateSettings(long, GuildSettings)}, is serialized per guild using striped locks, thus a
+ * slow load only delays the guilds sharing its lock. The eviction bookkeeping of the cache is guarded by a separate
+ * lock that is never held during storage access.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see SettingsProvider
+ * @see com.github.kaktushose.jda.commands.data.impl.GuildSettingsJsonRepository GuildSettingsJsonRepository
+ * @since 2.3.0
+ */
+public class RepositorySettingsProvider implements SettingsProvider, Flushable, Closeable {
+
+    /**
+     * The default maximum amount of cached {@link GuildSettings}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Logger log = LoggerFactory.getLogger(RepositorySettingsProvider.class);
+    private static final int LOCK_STRIPES = 64;
+    private final Repository<GuildSettings> repository;
+    private final GuildSettings defaultSettings;
+    private final SettingsCache cache;
+    private final Object[] storageLocks;
+    private final Object cacheLock;
+
+    /**
+     * Constructs a new RepositorySettingsProvider. Uses the settings of the {@link DefaultSettingsProvider} as
+     * fallback and caches up to {@value #DEFAULT_MAXIMUM_SIZE} {@link GuildSettings}.
+     *
+     * @param repository the {@link Repository} to load the {@link GuildSettings} from
+     */
+    public RepositorySettingsProvider(@NotNull Repository<GuildSettings> repository) {
+        this(repository, new DefaultSettingsProvider().getSettings(null), DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructs a new RepositorySettingsProvider.
+     *
+     * @param repository      the {@link Repository} to load the {@link GuildSettings} from
+     * @param defaultSettings the {@link GuildSettings} to use for guilds without stored settings and direct messages
+     * @param maximumSize     the maximum amount of cached {@link GuildSettings}
+     */
+    public RepositorySettingsProvider(@NotNull Repository<GuildSettings> repository,
+                                      @NotNull GuildSettings defaultSettings,
+                                      int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1!");
+        }
+        this.repository = repository;
+        this.defaultSettings = defaultSettings;
+        this.cache = new SettingsCache(maximumSize);
+        this.storageLocks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            storageLocks[i] = new Object();
+        }
+        this.cacheLock = new Object();
+    }
+
+    @Override
+    public GuildSettings getSettings(@Nullable Guild guild) {
+        if (guild == null) {
+            return defaultSettings;
+        }
+        return getSettings(guild.getIdLong());
+    }
+
+    /**
+     * Gets the {@link GuildSettings} for the guild with the given id. If the guild has no stored settings, the default
+     * settings will be returned.
+     *
+     * @param guildId the id of the guild
+     * @return the {@link GuildSettings} of the guild
+     */
+    public GuildSettings getSettings(long guildId) {
+        GuildSettings settings = cache.get(guildId);
+        if (settings != null) {
+            return settings;
+        }
+        synchronized (storageLock(guildId)) {
+            // another thread might have loaded the settings while we were waiting
+            settings = cache.get(guildId);
+            if (settings != null) {
+                return settings;
+            }
+            Optional<GuildSettings> optional = repository.findById(guildId);
+            settings = optional.orElse(defaultSettings);
+            // default settings are cached as well, so unknown guilds don't hit the storage on every message
+            cache(guildId, settings);
+            log.debug("Loaded settings for guild {}", guildId);
+            return settings;
+        }
+    }
+
+    /**
+     * Updates the {@link GuildSettings} of a guild. The settings are written to the {@link Repository} first and are
+     * then published to the cache.
+     *
+     * @param guildId  the id of the guild
+     * @param settings the new {@link GuildSettings}
+     */
+    public void updateSettings(long guildId, @NotNull GuildSettings settings) {
+        settings.setGuildId(guildId);
+        synchronized (storageLock(guildId)) {
+            repository.save(guildId, settings);
+            cache(guildId, settings);
+        }
+        log.debug("Updated settings for guild {}", guildId);
+    }
+
+    /**
+     * Deletes the {@link GuildSettings} of a guild. Afterwards the guild will use the default settings.
+     *
+     * @param guildId the id of the guild
+     */
+    public void deleteSettings(long guildId) {
+        synchronized (storageLock(guildId)) {
+            repository.delete(guildId);
+            cache(guildId, defaultSettings);
+        }
+        log.debug("Deleted settings for guild {}", guildId);
+    }
+
+    /**
+     * Removes the {@link GuildSettings} of a guild from the cache. The next access will load them from the
+     * {@link Repository} again. Use this if the underlying storage was modified from outside.
+     *
+     * @param guildId the id of the guild
+     */
+    public void invalidate(long guildId) {
+        // hold the storage lock, so a concurrent load can't cache outdated settings afterwards
+        synchronized (storageLock(guildId)) {
+            synchronized (cacheLock) {
+                cache.remove(guildId);
+            }
+        }
+    }
+
+    /**
+     * Removes all {@link GuildSettings} from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (cacheLock) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Reloads the {@link GuildSettings} after the underlying storage was modified from outside. If the
+     * {@link Repository} is a {@link JsonRepository}, only the settings of guilds that have actually changed are
+     * removed from the cache, otherwise the whole cache is cleared.
+     *
+     * @see com.github.kaktushose.jda.commands.reload.FileWatcher FileWatcher
+     */
+    @SuppressWarnings("unchecked")
+    public void reload() {
+        if (!(repository instanceof JsonRepository)) {
+            invalidateAll();
+            return;
+        }
+        LongSet changed = ((JsonRepository<GuildSettings>) repository).reload();
+        for (long guildId : changed.toLongArray()) {
+            invalidate(guildId);
+        }
+        log.debug("Reloaded settings of {} guilds", changed.size());
+    }
+
+    /**
+     * Gets the {@link GuildSettings} used for guilds without stored settings.
+     *
+     * @return the default {@link GuildSettings}
+     */
+    public GuildSettings getDefaultSettings() {
+        return defaultSettings;
+    }
+
+    /**
+     * Gets the underlying {@link Repository}.
+     *
+     * @return the underlying {@link Repository}
+     */
+    public Repository<GuildSettings> getRepository() {
+        return repository;
+    }
+
+    /**
+     * Flushes the underlying {@link Repository} if it is {@link Flushable}, e.g. a {@link JsonRepository} in
+     * write-behind mode.
+     *
+     * @throws IOException if the flush fails
+     */
+    @Override
+    public void flush() throws IOException {
+        if (repository instanceof Flushable) {
+            ((Flushable) repository).flush();
+        }
+    }
+
+    /**
+     * Closes the underlying {@link Repository} if it is {@link Closeable}.
+     *
+     * @throws IOException if the repository cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (repository instanceof Closeable) {
+            ((Closeable) repository).close();
+        }
+    }
+
+    private Object storageLock(long guildId) {
+        return storageLocks[(int) Math.floorMod(guildId, (long) LOCK_STRIPES)];
+    }
+
+    private void cache(long guildId, GuildSettings settings) {
+        synchronized (cacheLock) {
+            cache.put(guildId, settings);
+        }
+    }
+
+    /**
+     * Size-bounded cache using the second chance algorithm. Reads only touch the {@link ConcurrentHashMap} and a
+     * volatile flag. Writes must be guarded by the caller.
+     */
+    private static class SettingsCache {
+
+        private final int maximumSize;
+        private final Map<Long, Entry> entries;
+        private final Queue<Long> insertionOrder;
+
+        private SettingsCache(int maximumSize) {
+            this.maximumSize = maximumSize;
+            entries = new ConcurrentHashMap<>();
+            insertionOrder = new ArrayDeque<>();
+        }
+
+        private GuildSettings get(long key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            // avoid the volatile write if the flag is already set
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+
+        private void put(long key, GuildSettings value) {
+            if (entries.put(key, new Entry(value)) == null) {
+                insertionOrder.offer(key);
+                evict();
+            }
+        }
+
+        private void remove(long key) {
+            if (entries.remove(key) != null) {
+                insertionOrder.remove(key);
+            }
+        }
+
+        private void clear() {
+            entries.clear();
+            insertionOrder.clear();
+        }
+
+        private void evict() {
+            while (entries.size() > maximumSize) {
+                Long key = insertionOrder.poll();
+                if (key == null) {
+                    return;
+                }
+                Entry entry = entries.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    insertionOrder.offer(key);
+                    continue;
+                }
+                entries.remove(key);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final GuildSettings value;
+        private volatile boolean referenced;
+
+        private Entry(GuildSettings value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.github.kaktushose.jda.commands.settings;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of {@link GuildSettings}. All values are precomputed once when the snapshot is created, thus the
+ * snapshot can be read concurrently without any locking. Use {@link GuildSettings#getSnapshot()} to obtain the
+ * current snapshot.
+ *
+ * @author Kaktushose
+ * @version 2.3.0
+ * @see GuildSettings
+ * @since 2.3.0
+ */
+public final class SettingsSnapshot {
+
+    private final long guildId;
+    private final String prefix;
+    private final String foldedPrefix;
+    private final boolean ignoreCase;
+    private final boolean ignoreBots;
+    private final boolean parseQuotes;
+    private final Set<String> helpLabels;
+    private final String[] helpLabelArray;
+    private final String helpLabel;
+    private final long[] mutedChannels;
+    private final boolean isMutedGuild;
+    private final int maxDistance;
+
+    SettingsSnapshot(@NotNull GuildSettings settings) {
+        guildId = settings.getGuildId();
+        prefix = settings.getPrefix();
+        ignoreCase = settings.isIgnoreCase();
+        foldedPrefix = ignoreCase ? prefix.toLowerCase(Locale.ROOT) : prefix;
+        ignoreBots = settings.isIgnoreBots();
+        parseQuotes = settings.isParseQuotes();
+        isMutedGuild = settings.isMutedGuild();
+        maxDistance = settings.getMaxDistance();
+
+        Collection<String> labels = settings.helpLabels() == null ? Collections.emptySet() : settings.helpLabels();
+        helpLabels = Collections.unmodifiableSet(new LinkedHashSet<>(labels));
+        helpLabelArray = helpLabels.toArray(new String[0]);
+        helpLabel = helpLabelArray.length > 0 ? helpLabelArray[0] : "help";
+
+        long[] muted = settings.mutedChannels() == null ? new long[0] : settings.mutedChannels().toLongArray();
+        Arrays.sort(muted);
+        mutedChannels = muted;
+    }
+
+    /**
+     * Gets the guild id.
+     *
+     * @return the guild id
+     */
+    public long getGuildId() {
+        return guildId;
+    }
+
+    /**
+     * Gets the prefix.
+     *
+     * @return the prefix
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the prefix in lower case if the case should be ignored, else the unmodified prefix.
+     *
+     * @return the case-folded prefix
+     */
+    public String getFoldedPrefix() {
+        return foldedPrefix;
+    }
+
+    /**
+     * Whether the given input starts with the prefix. Respects {@link #isIgnoreCase()}.
+     *
+     * @param input the input to check
+     * @return {@code true} if the input starts with the prefix
+     */
+    public boolean startsWithPrefix(@NotNull String input) {
+        return input.regionMatches(ignoreCase, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Whether to ignore the case.
+     *
+     * @return {@code true} if the case should be ignored
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    /**
+     * Whether to ignore bot accounts.
+     *
+     * @return {@code true} if bot accounts should be ignored
+     */
+    public boolean isIgnoreBots() {
+        return ignoreBots;
+    }
+
+    /**
+     * Whether to parse quotes.
+     *
+     * @return {@code true} if quotes should be parsed
+     */
+    public boolean isParseQuotes() {
+        return parseQuotes;
+    }
+
+    /**
+     * Gets an unmodifiable set of all help labels.
+     *
+     * @return an unmodifiable set of all help labels
+     */
+    public Set<String> getHelpLabels() {
+        return helpLabels;
+    }
+
+    /**
+     * Gets the help label that should be displayed to the user, which is the first help label or {@code help} if no
+     * help labels are present.
+     *
+     * @return the help label to display
+     */
+    public String getHelpLabel() {
+        return helpLabel;
+    }
+
+    /**
+     * Whether the given input matches a help label. The input matches if a help label starts with it or if the
+     * Levenshtein distance to a help label is lower than {@link #getMaxDistance()}.
+     *
+     * @param input the input to check
+     * @return {@code true} if the input matches a help label
+     */
+    public boolean isHelpLabel(@NotNull String input) {
+        if (maxDistance < 1) {
+            return false;
+        }
+        for (String label : helpLabelArray) {
+            if (label.startsWith(input)) {
+                return true;
+            }
+        }
+        int threshold = maxDistance - 1;
+        if (threshold == 0) {
+            return false;
+        }
+        for (String label : helpLabelArray) {
+            if (Math.abs(label.length() - input.length()) > threshold) {
+                continue;
+            }
+            if (calculateLevenshteinDistance(label, input) <= threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the channel with the given id is muted.
+     *
+     * @param channelId the id of the channel
+     * @return {@code true} if the channel is muted
+     */
+    public boolean isMutedChannel(long channelId) {
+        return mutedChannels.length > 0 && Arrays.binarySearch(mutedChannels, channelId) >= 0;
+    }
+
+    /**
+     * Gets the sorted ids of all muted channels.
+     *
+     * @return a copy of the sorted ids of all muted channels
+     */
+    public long[] getMutedChannels() {
+        return mutedChannels.clone();
+    }
+
+    /**
+     * Whether this guild should be ignored.
+     *
+     * @return {@code true} if this guild should be ignored
+     */
+    public boolean isMutedGuild() {
+        return isMutedGuild;
+    }
+
+    /**
+     * Gets the maximal Levenshtein distance to use when routing commands.
+     *
+     * @return the maximal Levenshtein distance to use when routing commands
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    private int calculateLevenshteinDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SettingsSnapshot that = (SettingsSnapshot) o;
+        return guildId == that.guildId &&
+                ignoreCase == that.ignoreCase &&
+                ignoreBots == that.ignoreBots &&
+                parseQuotes == that.parseQuotes &&
+                isMutedGuild == that.isMutedGuild &&
+                maxDistance == that.maxDistance &&
+                prefix.equals(that.prefix) &&
+                helpLabels.equals(that.helpLabels) &&
+                Arrays.equals(mutedChannels, that.mutedChannels);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(guildId, prefix, ignoreCase, ignoreBots, parseQuotes, helpLabels, isMutedGuild, maxDistance);
+        return 31 * result + Arrays.hashCode(mutedChannels);
+    }
+
+    @Override
+    public String toString() {
+        return "SettingsSnapshot{" +
+                "id=" + guildId +
+                ", prefix='" + prefix + '\'' +
+                ", ignoreCase=" + ignoreCase +
+                ", ignoreBots=" + ignoreBots +
+                ", parseQuotes=" + parseQuotes +
+                ", helpLabels=" + helpLabels +
+                ", mutedChannels=" + Arrays.toString(mutedChannels) +
+                ", isMuted=" + isMutedGuild +
+                ", maxDistance=" + maxDistance +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package controller;
+
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.reflect.CachedClassIndex;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedClassIndexTest {
+
+    private Path directory;
+    private Path file;
+    private int scans;
+    private Supplier<ClassIndex> scanner;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("class-index-cache");
+        file = directory.resolve("index");
+        scans = 0;
+        scanner = () -> {
+            scans++;
+            return new ClassIndex() {
+                @Override
+                public Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+                    if (annotation == CommandController.class) {
+                        return Collections.singleton(CommandRegistryTestController.class);
+                    }
+                    return Collections.emptySet();
+                }
+
+                @Override
+                public <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type) {
+                    return Collections.emptySet();
+                }
+
+                @Override
+                public Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+                    return Collections.emptySet();
+                }
+            };
+        };
+    }
+
+    private CachedClassIndex load(String fingerprint) {
+        return CachedClassIndex.load(file, getClass().getClassLoader(), fingerprint, scanner);
+    }
+
+    @Test
+    public void load_WithUnchangedFingerprint_ShouldSkipScan() {
+        assertFalse(load("a").isCached());
+        CachedClassIndex index = load("a");
+
+        assertTrue(index.isCached());
+        assertEquals(1, scans);
+        assertEquals(Collections.singleton(CommandRegistryTestController.class),
+                index.getTypesAnnotatedWith(CommandController.class));
+    }
+
+    @Test
+    public void load_WithChangedFingerprint_ShouldScanAgain() {
+        load("a");
+        CachedClassIndex index = load("b");
+
+        assertFalse(index.isCached());
+        assertEquals(2, scans);
+        assertTrue(load("b").isCached());
+    }
+
+    @Test
+    public void load_WithoutFingerprint_ShouldNotWriteCache() {
+        load(null);
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void fingerprint_WithChangedFile_ShouldChange() throws IOException {
+        Files.write(directory.resolve("A.class"), new byte[]{1});
+        String first = CachedClassIndex.fingerprint(Collections.singleton(directory)).get();
+
+        assertEquals(first, CachedClassIndex.fingerprint(Collections.singleton(directory)).get());
+        Files.write(directory.resolve("A.class"), new byte[]{1, 2});
+        assertNotEquals(first, CachedClassIndex.fingerprint(Collections.singleton(directory)).get());
+    }
+}
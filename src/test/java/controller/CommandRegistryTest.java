@@ -0,0 +1,152 @@
+package controller;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.ClassIndex;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.CommandRegistry;
+import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandRegistryTest {
+
+    private CommandRegistry registry;
+    private ClassIndex classIndex;
+
+    @BeforeEach
+    public void setup() {
+        registry = new CommandRegistry(new TypeAdapterRegistry(), new ValidatorRegistry(), new DependencyInjector());
+        classIndex = new ClassIndex() {
+            @Override
+            public Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+                return Collections.singleton(CommandRegistryTestController.class);
+            }
+
+            @Override
+            public <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type) {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+                return Collections.emptySet();
+            }
+        };
+    }
+
+    @Test
+    public void index_WithClassIndex_ShouldRegisterCommands() {
+        registry.index(classIndex);
+
+        assertEquals(1, registry.getControllers().size());
+        assertEquals(2, registry.getCommands().size());
+    }
+
+    @Test
+    public void getControllers_WithoutChange_ShouldReturnSameSnapshot() {
+        registry.index(classIndex);
+        Set<ControllerDefinition> controllers = registry.getControllers();
+
+        assertSame(controllers, registry.getControllers());
+        registry.index(classIndex);
+        assertNotSame(controllers, registry.getControllers());
+    }
+
+    @Test
+    public void index_WithMultipleControllers_ShouldRegisterAllCommands() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(CommandRegistryTestController.class, ControllerDefinitionTestController.class));
+        int expected = 0;
+        for (Class<?> clazz : classes) {
+            ControllerDefinition controller = ControllerDefinition.build(clazz, new TypeAdapterRegistry(),
+                    new ValidatorRegistry(), new DependencyInjector()).get();
+            expected += controller.getSuperCommands().size() + controller.getSubCommands().size();
+        }
+
+        registry.index(new ClassIndex() {
+            @Override
+            public Set<Class<?>> getTypesAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+                return classes;
+            }
+
+            @Override
+            public <T> Set<Class<? extends T>> getSubTypesOf(@NotNull Class<T> type) {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Set<Method> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+                return Collections.emptySet();
+            }
+        });
+
+        assertEquals(2, registry.getControllers().size());
+        assertEquals(expected, registry.getCommands().size());
+    }
+
+    @Test
+    public void register_WithNewController_ShouldPublishNewSnapshot() {
+        registry.index(classIndex);
+        Set<CommandDefinition> commands = registry.getCommands();
+
+        assertTrue(registry.register(HotRegistrationTestController.class));
+
+        assertEquals(2, commands.size());
+        assertEquals(3, registry.getCommands().size());
+        assertEquals(2, registry.getControllers().size());
+    }
+
+    @Test
+    public void register_WithConflictingLabel_ShouldReject() {
+        registry.index(classIndex);
+        Set<CommandDefinition> commands = registry.getCommands();
+
+        assertFalse(registry.register(ConflictingTestController.class));
+
+        assertSame(commands, registry.getCommands());
+    }
+
+    @Test
+    public void register_WithRegisteredController_ShouldReplace() {
+        registry.index(classIndex);
+
+        assertTrue(registry.register(CommandRegistryTestController.class));
+
+        assertEquals(1, registry.getControllers().size());
+        assertEquals(2, registry.getCommands().size());
+    }
+
+    @Test
+    public void unregister_WithRegisteredController_ShouldRemoveCommands() {
+        registry.index(classIndex);
+
+        assertTrue(registry.unregister(CommandRegistryTestController.class));
+        assertFalse(registry.unregister(CommandRegistryTestController.class));
+
+        assertTrue(registry.getCommands().isEmpty());
+        assertTrue(registry.getControllers().isEmpty());
+    }
+
+    @Test
+    public void getSnapshot_WithLaterUnregister_ShouldKeepControllersAndCommands() {
+        registry.index(classIndex);
+        CommandRegistry.Snapshot snapshot = registry.getSnapshot();
+
+        registry.unregister(CommandRegistryTestController.class);
+
+        assertEquals(1, snapshot.getControllers().size());
+        assertFalse(snapshot.getCommands().isEmpty());
+        assertTrue(registry.getSnapshot().getControllers().isEmpty());
+    }
+}
@@ -0,0 +1,18 @@
+package controller;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+@CommandController
+public class CommandRegistryTestController {
+
+    @Command("first")
+    public void firstCommand(CommandEvent event) {
+    }
+
+    @Command("second")
+    public void secondCommand(CommandEvent event) {
+    }
+
+}
@@ -0,0 +1,14 @@
+package controller;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+@CommandController
+public class HotRegistrationTestController {
+
+    @Command("third")
+    public void thirdCommand(CommandEvent event) {
+    }
+
+}
@@ -0,0 +1,67 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.AsyncRepositoryAdapter;
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsJsonRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncRepositoryAdapterTest {
+
+    private File file;
+    private AsyncRepositoryAdapter<GuildSettings> repository;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = Files.createTempFile("guilds", ".json").toFile();
+        Files.delete(file.toPath());
+        repository = new AsyncRepositoryAdapter<>(new GuildSettingsJsonRepository(file));
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        repository.close();
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void save_WithPipelinedRead_ShouldSeeEntity() {
+        repository.save(1, new GuildSettings());
+
+        assertTrue(repository.findById(1).join().isPresent());
+    }
+
+    @Test
+    public void findAllById_WithMissingIds_ShouldOnlyContainFoundEntities() {
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        entities.put(1L, new GuildSettings());
+        entities.put(2L, new GuildSettings());
+        repository.saveAll(entities);
+
+        Map<Long, GuildSettings> result = repository.findAllById(Arrays.asList(1L, 2L, 3L)).join();
+
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), result.keySet());
+    }
+
+    @Test
+    public void findAll_WithConsumer_ShouldVisitAllEntities() {
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        entities.put(1L, new GuildSettings());
+        entities.put(2L, new GuildSettings());
+        repository.saveAll(entities);
+        AtomicInteger visited = new AtomicInteger();
+
+        repository.findAll(settings -> visited.incrementAndGet()).join();
+
+        assertEquals(2, visited.get());
+    }
+}
@@ -12,8 +12,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class CommandListTest {
 
@@ -66,4 +65,31 @@ public class CommandListTest {
         assertEquals(2, sorted.get("A").size());
         assertEquals(1, sorted.get("B").size());
     }
+
+    @Test
+    public void getByName_WithDifferentCase_ShouldReturnList() {
+        assertEquals(2, commandList.getByName("SECOND NAME").size());
+    }
+
+    @Test
+    public void getByLabel_AfterRemoval_ShouldRebuildIndex() {
+        CommandList list = new CommandList(commandList);
+        CommandDefinition first = list.getByLabel("first");
+
+        list.remove(first);
+
+        assertNull(list.getByLabel("first"));
+        assertEquals(1, list.getByCategory("A").size());
+    }
+
+    @Test
+    public void getSortedByCategories_WithoutModification_ShouldReturnCachedView() {
+        CommandList list = new CommandList(commandList);
+        Map<String, List<CommandDefinition>> sorted = list.getSortedByCategories();
+
+        assertSame(sorted, list.getSortedByCategories());
+        list.set(0, list.get(2));
+        assertNotSame(sorted, list.getSortedByCategories());
+        assertEquals(2, list.getSortedByCategories().get("B").size());
+    }
 }
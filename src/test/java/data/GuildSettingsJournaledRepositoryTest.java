@@ -0,0 +1,127 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsJournaledRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsJournaledRepositoryTest {
+
+    private File directory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.walk(directory.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    @Test
+    public void save_WithReopen_ShouldReplayJournal() {
+        GuildSettingsJournaledRepository repository = new GuildSettingsJournaledRepository(directory);
+        GuildSettings settings = new GuildSettings();
+        settings.setPrefix("?");
+        settings.setHelpLabels(Arrays.asList("help", "hilfe"));
+        repository.save(1, settings);
+        repository.save(2, new GuildSettings());
+        repository.delete(2);
+        repository.close();
+
+        GuildSettingsJournaledRepository reopened = new GuildSettingsJournaledRepository(directory);
+
+        assertEquals(1, reopened.count());
+        assertEquals("?", reopened.findById(1).get().getPrefix());
+        assertEquals("?", reopened.findById(1).get().getSnapshot().getPrefix());
+        assertTrue(reopened.findById(1).get().getSnapshot().getHelpLabels().contains("hilfe"));
+        reopened.close();
+    }
+
+    @Test
+    public void compact_WithJournal_ShouldTruncateJournalAndKeepValues() {
+        GuildSettingsJournaledRepository repository = new GuildSettingsJournaledRepository(directory);
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        entities.put(1L, new GuildSettings());
+        entities.put(2L, new GuildSettings());
+        repository.saveAll(entities);
+        repository.deleteAll(Arrays.asList(2L));
+
+        repository.compact();
+
+        assertEquals(0, repository.getJournalSize());
+        assertTrue(new File(directory, "guilds.snapshot.json").exists());
+        repository.close();
+        GuildSettingsJournaledRepository reopened = new GuildSettingsJournaledRepository(directory);
+        assertTrue(reopened.existsById(1));
+        assertFalse(reopened.existsById(2));
+        reopened.close();
+    }
+
+    @Test
+    public void recover_WithIncompleteRecord_ShouldSkipRecord() throws IOException {
+        GuildSettingsJournaledRepository repository = new GuildSettingsJournaledRepository(directory);
+        repository.save(1, new GuildSettings());
+        repository.close();
+        try (OutputStream out = Files.newOutputStream(new File(directory, "guilds.journal").toPath(), StandardOpenOption.APPEND)) {
+            out.write("{\"op\":\"put\",\"id\":2,\"val".getBytes(StandardCharsets.UTF_8));
+        }
+
+        GuildSettingsJournaledRepository reopened = new GuildSettingsJournaledRepository(directory);
+
+        assertTrue(reopened.existsById(1));
+        assertFalse(reopened.existsById(2));
+        reopened.close();
+    }
+
+    @Test
+    public void save_AfterIncompleteRecord_ShouldSurviveNextRecovery() throws IOException {
+        GuildSettingsJournaledRepository repository = new GuildSettingsJournaledRepository(directory);
+        repository.save(1, new GuildSettings());
+        repository.close();
+        try (OutputStream out = Files.newOutputStream(new File(directory, "guilds.journal").toPath(), StandardOpenOption.APPEND)) {
+            out.write("{\"op\":\"put\",\"id\":2,\"val".getBytes(StandardCharsets.UTF_8));
+        }
+
+        GuildSettingsJournaledRepository reopened = new GuildSettingsJournaledRepository(directory);
+        GuildSettings settings = new GuildSettings();
+        settings.setPrefix("?");
+        reopened.save(3, settings);
+        reopened.close();
+        GuildSettingsJournaledRepository recovered = new GuildSettingsJournaledRepository(directory);
+
+        assertTrue(recovered.existsById(1));
+        assertFalse(recovered.existsById(2));
+        assertEquals("?", recovered.findById(3).get().getPrefix());
+        recovered.close();
+    }
+
+    @Test
+    public void save_ExceedingThreshold_ShouldCompactInBackground() throws InterruptedException {
+        GuildSettingsJournaledRepository repository = new GuildSettingsJournaledRepository(directory, 1);
+        repository.save(1, new GuildSettings());
+
+        for (int i = 0; i < 100 && repository.getJournalSize() > 0; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, repository.getJournalSize());
+        repository.close();
+    }
+}
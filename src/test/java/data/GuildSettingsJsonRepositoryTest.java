@@ -9,7 +9,11 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,6 +59,18 @@ public class GuildSettingsJsonRepositoryTest {
         assertEquals(repository.findAll().size(), repository.count());
     }
 
+    @Test
+    public void findAll_WithLaterSave_ShouldReturnCopy() {
+        GuildSettingsJsonRepository saveRepository = new GuildSettingsJsonRepository(tempFile);
+        saveRepository.save(0, new GuildSettings());
+
+        int size = saveRepository.findAll().size();
+        Collection<GuildSettings> all = saveRepository.findAll();
+        saveRepository.save(1, new GuildSettings());
+
+        assertEquals(size, all.size());
+    }
+
     @Test
     public void save_WithDefaultGuildSettings_ShouldWork() {
         GuildSettingsJsonRepository saveRepository = new GuildSettingsJsonRepository(tempFile);
@@ -76,4 +92,40 @@ public class GuildSettingsJsonRepositoryTest {
 
         assertFalse(settings.isPresent());
     }
+
+    @Test
+    public void save_WithWriteBehind_ShouldDeferUntilFlush() {
+        GuildSettingsJsonRepository saveRepository = new GuildSettingsJsonRepository(tempFile);
+        saveRepository.enableWriteBehind(1, TimeUnit.HOURS, 100);
+
+        saveRepository.save(2, new GuildSettings());
+        assertEquals(1, saveRepository.getDirtyCount());
+        assertFalse(new GuildSettingsJsonRepository(tempFile).existsById(2));
+
+        saveRepository.flush();
+        assertEquals(0, saveRepository.getDirtyCount());
+        assertTrue(new GuildSettingsJsonRepository(tempFile).existsById(2));
+
+        saveRepository.delete(2);
+        saveRepository.close();
+        assertFalse(new GuildSettingsJsonRepository(tempFile).existsById(2));
+    }
+
+    @Test
+    public void saveAll_WithWriteBehind_ShouldCoalesceDirtyEntries() {
+        GuildSettingsJsonRepository saveRepository = new GuildSettingsJsonRepository(tempFile);
+        saveRepository.enableWriteBehind(1, TimeUnit.HOURS, 100);
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        entities.put(3L, new GuildSettings());
+        entities.put(4L, new GuildSettings());
+
+        saveRepository.saveAll(entities);
+        saveRepository.saveAll(entities);
+        assertEquals(2, saveRepository.getDirtyCount());
+
+        saveRepository.close();
+        GuildSettingsJsonRepository loadRepository = new GuildSettingsJsonRepository(tempFile);
+        assertTrue(loadRepository.existsById(3));
+        assertTrue(loadRepository.existsById(4));
+    }
 }
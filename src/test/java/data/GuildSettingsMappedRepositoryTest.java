@@ -0,0 +1,103 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsMappedRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsMappedRepositoryTest {
+
+    private File file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = Files.createTempFile("guilds", ".bin").toFile();
+        Files.delete(file.toPath());
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void save_WithReopen_ShouldRebuildIndex() {
+        GuildSettingsMappedRepository repository = new GuildSettingsMappedRepository(file);
+        GuildSettings settings = new GuildSettings();
+        settings.setPrefix("?");
+        settings.setHelpLabels(Arrays.asList("help", "hilfe"));
+        repository.save(1, settings);
+        repository.save(2, new GuildSettings());
+        repository.delete(2);
+        repository.close();
+
+        GuildSettingsMappedRepository reopened = new GuildSettingsMappedRepository(file);
+
+        assertEquals(1, reopened.count());
+        assertEquals("?", reopened.findById(1).get().getPrefix());
+        assertEquals("?", reopened.findById(1).get().getSnapshot().getPrefix());
+        assertTrue(reopened.findById(1).get().getSnapshot().getHelpLabels().contains("hilfe"));
+        assertFalse(reopened.existsById(2));
+        reopened.close();
+    }
+
+    @Test
+    public void saveAll_WithManyEntities_ShouldGrowFileAndIndex() {
+        GuildSettingsMappedRepository repository = new GuildSettingsMappedRepository(file);
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        for (long i = 0; i < 20_000; i++) {
+            entities.put(i, new GuildSettings());
+        }
+
+        repository.saveAll(entities);
+
+        assertEquals(20_000, repository.count());
+        assertEquals(20_000, repository.stream().count());
+        assertTrue(repository.existsById(19_999));
+        repository.close();
+    }
+
+    @Test
+    public void stream_WithDeleteAfterCreation_ShouldSkipDeletedValues() {
+        GuildSettingsMappedRepository repository = new GuildSettingsMappedRepository(file);
+        for (long i = 0; i < 10; i++) {
+            repository.save(i, new GuildSettings());
+        }
+
+        Stream<GuildSettings> stream = repository.stream();
+        repository.deleteAll(Arrays.asList(0L, 1L, 2L));
+
+        assertEquals(7, stream.count());
+        repository.close();
+    }
+
+    @Test
+    public void compact_WithObsoleteRecords_ShouldReleaseGarbage() {
+        GuildSettingsMappedRepository repository = new GuildSettingsMappedRepository(file);
+        for (long i = 0; i < 100; i++) {
+            repository.save(i, new GuildSettings());
+            repository.save(i, new GuildSettings());
+        }
+        repository.deleteAll(Arrays.asList(0L, 1L));
+        assertTrue(repository.getGarbageSize() > 0);
+
+        repository.compact();
+
+        assertEquals(0, repository.getGarbageSize());
+        assertEquals(98, repository.findAll().size());
+        assertFalse(repository.existsById(0));
+        assertTrue(repository.findById(50).isPresent());
+        repository.close();
+    }
+}
@@ -0,0 +1,66 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsShardedRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsShardedRepositoryTest {
+
+    private File directory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("sharded").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.walk(directory.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    @Test
+    public void save_WithDifferentIds_ShouldRouteToPartitions() {
+        GuildSettingsShardedRepository repository = new GuildSettingsShardedRepository(directory, 4);
+
+        repository.save(1, new GuildSettings());
+        repository.save(-3, new GuildSettings());
+
+        assertSame(repository.getPartition(1), repository.getPartition(-3));
+        assertEquals(2, repository.getPartition(1).count());
+        assertEquals(0, repository.getPartition(2).count());
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    public void saveAll_WithWriteBehind_ShouldPersistOnClose() {
+        GuildSettingsShardedRepository repository = new GuildSettingsShardedRepository(directory, 3);
+        repository.enableWriteBehind(1, TimeUnit.HOURS, 1000);
+        Map<Long, GuildSettings> entities = new HashMap<>();
+        for (long i = 0; i < 9; i++) {
+            entities.put(i, new GuildSettings());
+        }
+
+        repository.saveAll(entities);
+        repository.deleteAll(Arrays.asList(0L, 1L));
+        repository.close();
+
+        GuildSettingsShardedRepository reopened = new GuildSettingsShardedRepository(directory, 3);
+        assertEquals(7, reopened.count());
+        assertFalse(reopened.existsById(1));
+        assertTrue(reopened.existsById(8));
+    }
+}
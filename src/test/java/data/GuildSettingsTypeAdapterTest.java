@@ -0,0 +1,50 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsTypeAdapter;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuildSettingsTypeAdapterTest {
+
+    private static final GuildSettingsTypeAdapter adapter = new GuildSettingsTypeAdapter();
+
+    @Test
+    public void read_WithReflectiveJson_ShouldEqualReflectiveResult() throws IOException {
+        GuildSettings settings = new GuildSettings()
+                .setGuildId(42)
+                .setPrefix("?")
+                .setIgnoreCase(false)
+                .setHelpLabels(Arrays.asList("foo", "bar"))
+                .setMutedChannels(Collections.singleton(7L))
+                .setMaxDistance(5);
+        String json = new Gson().toJson(settings);
+
+        GuildSettings read = adapter.fromJson(json);
+
+        assertEquals(settings.toString(), read.toString());
+    }
+
+    @Test
+    public void read_WithMissingProperties_ShouldKeepDefaults() throws IOException {
+        GuildSettings read = adapter.fromJson("{\"prefix\":\"?\",\"unknown\":[1,2]}");
+
+        assertEquals("?", read.getPrefix());
+        assertEquals(new GuildSettings().getMaxDistance(), read.getMaxDistance());
+    }
+
+    @Test
+    public void write_WithSettings_ShouldBeReadableByReflection() {
+        GuildSettings settings = new GuildSettings().setPrefix("$").setMutedChannels(Collections.singleton(3L));
+
+        GuildSettings read = new Gson().fromJson(adapter.toJson(settings), GuildSettings.class);
+
+        assertEquals(settings.toString(), read.toString());
+    }
+}
@@ -0,0 +1,122 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.LongObjectMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void put_WithZeroKey_ShouldBeRetrievable() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        map.put(0, "zero");
+
+        assertEquals("zero", map.get(0));
+        assertTrue(map.containsKey(0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void remove_WithRandomOperations_ShouldBehaveLikeHashMap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                String value = String.valueOf(i);
+                assertEquals(expected.put(key, value), map.put(key, value));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.keys().length);
+    }
+
+    @Test
+    public void copyConstructor_WithLongObjectMap_ShouldBeIndependent() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1, "one");
+
+        LongObjectMap<String> copy = new LongObjectMap<>(map);
+        map.remove(1);
+
+        assertEquals("one", copy.get(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void iteratorRemove_WithRandomKeys_ShouldVisitEveryKeyOnce() {
+        Random random = new Random(42);
+
+        // small tables with clustered keys, thus clusters regularly wrap around the end of the table
+        for (int run = 0; run < 1_000; run++) {
+            LongObjectMap<String> map = new LongObjectMap<>();
+            Map<Long, String> expected = new HashMap<>();
+            for (int i = random.nextInt(24); i >= 0; i--) {
+                long key = random.nextBoolean() ? random.nextInt(32) : random.nextLong();
+                map.put(key, String.valueOf(key));
+                expected.put(key, String.valueOf(key));
+            }
+
+            Set<Long> keys = new HashSet<>(expected.keySet());
+            Set<Long> visited = new HashSet<>();
+            Iterator<Map.Entry<Long, String>> iterator = map.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, String> entry = iterator.next();
+                assertTrue(visited.add(entry.getKey()));
+                assertEquals(String.valueOf(entry.getKey()), entry.getValue());
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expected.remove(entry.getKey());
+                }
+            }
+
+            assertEquals(keys, visited);
+            assertEquals(expected, map);
+        }
+    }
+
+    @Test
+    public void views_WithRemoveIf_ShouldBehaveLikeHashMap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        for (long key = -500; key < 500; key++) {
+            map.put(key, String.valueOf(key));
+            expected.put(key, String.valueOf(key));
+        }
+
+        map.values().removeIf(value -> value.endsWith("3"));
+        expected.values().removeIf(value -> value.endsWith("3"));
+        map.entrySet().removeIf(entry -> entry.getKey() % 7 == 0);
+        expected.entrySet().removeIf(entry -> entry.getKey() % 7 == 0);
+        map.keySet().remove(1L);
+        expected.keySet().remove(1L);
+
+        assertEquals(expected, map);
+    }
+
+    @Test
+    public void iteratorRemove_WithoutNext_ShouldThrow() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1, "one");
+
+        Iterator<Long> iterator = map.keySet().iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    public void put_WithNullKey_ShouldThrow() {
+        Map<Long, String> map = new LongObjectMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+    }
+}
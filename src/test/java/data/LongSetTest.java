@@ -0,0 +1,59 @@
+package data;
+
+import com.github.kaktushose.jda.commands.data.LongCollectionsTypeAdapterFactory;
+import com.github.kaktushose.jda.commands.data.LongObjectMap;
+import com.github.kaktushose.jda.commands.data.LongSet;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongSetTest {
+
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(new LongCollectionsTypeAdapterFactory())
+            .create();
+
+    @Test
+    public void add_WithDuplicates_ShouldBehaveLikeHashSet() {
+        LongSet set = new LongSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (long value : new long[]{0, 1, -1, 1, Long.MAX_VALUE, 0, 42}) {
+            assertEquals(expected.add(value), set.add(value));
+        }
+
+        assertEquals(expected, set);
+        assertTrue(set.remove(0L));
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    public void toJson_WithLongSet_ShouldMatchDefaultFormat() {
+        LongSet set = new LongSet(Arrays.asList(1L, 2L));
+
+        LongSet read = gson.fromJson(new Gson().toJson(new HashSet<>(set)), LongSet.class);
+
+        assertEquals(set, read);
+    }
+
+    @Test
+    public void toJson_WithLongObjectMap_ShouldBeReadableAsMap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(5, "five");
+
+        String json = gson.toJson(map, new TypeToken<LongObjectMap<String>>() {
+        }.getType());
+        LongObjectMap<String> read = gson.fromJson(json, new TypeToken<LongObjectMap<String>>() {
+        }.getType());
+
+        assertEquals("{\"5\":\"five\"}", json);
+        assertEquals("five", read.get(5));
+    }
+}
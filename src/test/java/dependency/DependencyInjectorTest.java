@@ -9,8 +9,7 @@ import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class DependencyInjectorTest {
 
@@ -58,4 +57,35 @@ public class DependencyInjectorTest {
 
         assertNull(instance.getDependency());
     }
+
+    @Test
+    public void getDependency_WithInterfaceType_ShouldResolveAssignableProducer() {
+        dependencyInjector.registerProvider(new ProducingClass());
+
+        assertTrue(dependencyInjector.getDependency(Object.class).isPresent());
+        assertFalse(dependencyInjector.getDependency(String.class).isPresent());
+    }
+
+    @Test
+    public void inject_WithLazySupplier_ShouldProduceOnFirstUse() {
+        ScopedProducingClass.lazyCalls = 0;
+        ScopedInjectableClass scoped = new ScopedInjectableClass();
+        dependencyInjector.registerDependencies(scoped, Arrays.asList(scoped.getClass().getDeclaredFields()));
+        dependencyInjector.registerProvider(new ScopedProducingClass());
+
+        dependencyInjector.inject();
+
+        assertEquals(0, ScopedProducingClass.lazyCalls);
+        assertEquals("lazy", scoped.getLazy().get());
+        assertEquals("lazy", scoped.getLazy().get());
+        assertEquals(1, ScopedProducingClass.lazyCalls);
+    }
+
+    @Test
+    public void getDependency_WithPrototype_ShouldProduceNewInstances() {
+        dependencyInjector.registerProvider(new ScopedProducingClass());
+
+        assertNotSame(dependencyInjector.getDependency(StringBuilder.class).get(),
+                dependencyInjector.getDependency(StringBuilder.class).get());
+    }
 }
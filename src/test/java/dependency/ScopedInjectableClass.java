@@ -0,0 +1,22 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Inject;
+
+import java.util.function.Supplier;
+
+public class ScopedInjectableClass {
+
+    @Inject
+    private Supplier<CharSequence> lazy;
+
+    @Inject
+    private StringBuilder prototype;
+
+    public Supplier<CharSequence> getLazy() {
+        return lazy;
+    }
+
+    public StringBuilder getPrototype() {
+        return prototype;
+    }
+}
@@ -0,0 +1,21 @@
+package dependency;
+
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import com.github.kaktushose.jda.commands.dependency.Scope;
+
+public class ScopedProducingClass {
+
+    public static int lazyCalls;
+
+    @Produces(scope = Scope.LAZY)
+    public CharSequence getLazy() {
+        lazyCalls++;
+        return "lazy";
+    }
+
+    @Produces(scope = Scope.PROTOTYPE)
+    public StringBuilder getPrototype() {
+        return new StringBuilder();
+    }
+
+}
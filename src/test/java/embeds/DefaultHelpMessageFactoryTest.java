@@ -0,0 +1,83 @@
+package embeds;
+
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.embeds.help.DefaultHelpMessageFactory;
+import com.github.kaktushose.jda.commands.reflect.ControllerDefinition;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import net.dv8tion.jda.api.entities.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DefaultHelpMessageFactoryTest {
+
+    private DefaultHelpMessageFactory factory;
+    private Set<ControllerDefinition> controllers;
+
+    @BeforeEach
+    public void setup() {
+        factory = new DefaultHelpMessageFactory();
+        controllers = Collections.unmodifiableSet(new HashSet<>());
+    }
+
+    private CommandContext context(String prefix) {
+        return new CommandContext().setSettings(new GuildSettings().setPrefix(prefix));
+    }
+
+    @Test
+    public void getGenericHelp_WithSameInputs_ShouldReturnCachedMessage() {
+        Message first = factory.getGenericHelp(controllers, context("!"));
+        Message second = factory.getGenericHelp(controllers, context("!"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void getGenericHelp_WithChangedPrefix_ShouldRenderAgain() {
+        Message first = factory.getGenericHelp(controllers, context("!"));
+        Message second = factory.getGenericHelp(controllers, context("?"));
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void getGenericHelp_WithNewControllerSet_ShouldDiscardCachedMessages() {
+        factory.getGenericHelp(controllers, context("!"));
+        factory.getGenericHelp(controllers, context("?"));
+
+        Message message = factory.getGenericHelp(Collections.unmodifiableSet(new HashSet<>()), context("!"));
+
+        assertNotNull(message);
+        assertEquals(1, factory.getMessageCache().size());
+    }
+
+    @Test
+    public void getGenericHelpPageCount_WithCategoriesPerPage_ShouldSplitCategories() {
+        DefaultHelpMessageFactory paginated = new DefaultHelpMessageFactory(1);
+        Set<ControllerDefinition> controllers = Collections.singleton(ControllerDefinition.build(HelpTestController.class,
+                new TypeAdapterRegistry(), new ValidatorRegistry(), new DependencyInjector()).get());
+
+        assertEquals(2, paginated.getGenericHelpPageCount(controllers, context("!")));
+        assertEquals(1, factory.getGenericHelpPageCount(controllers, context("!")));
+    }
+
+    @Test
+    public void getGenericHelp_WithNegativePage_ShouldWrapAround() {
+        DefaultHelpMessageFactory paginated = new DefaultHelpMessageFactory(1);
+        Set<ControllerDefinition> controllers = Collections.singleton(ControllerDefinition.build(HelpTestController.class,
+                new TypeAdapterRegistry(), new ValidatorRegistry(), new DependencyInjector()).get());
+
+        Message last = paginated.getGenericHelp(controllers, context("!"), 1);
+
+        assertSame(last, paginated.getGenericHelp(controllers, context("!"), -1));
+        assertNotSame(last, paginated.getGenericHelp(controllers, context("!")));
+    }
+}
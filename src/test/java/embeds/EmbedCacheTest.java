@@ -0,0 +1,89 @@
+package embeds;
+
+import com.github.kaktushose.jda.commands.embeds.EmbedCache;
+import com.github.kaktushose.jda.commands.embeds.EmbedDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmbedCacheTest {
+
+    private static final String JSON = "{" +
+            "\"first\": {\"title\": \"Title\", \"color\": \"#ff0000\", \"footer\": {\"text\": \"Footer\"}," +
+            "\"fields\": [{\"name\": \"a\", \"value\": \"b\", \"inline\": true}]}," +
+            "\"second\": {\"description\": \"{prefix}help\", \"unknown\": {\"nested\": 1}}" +
+            "}";
+
+    private EmbedCache load(String json) {
+        EmbedCache cache = new EmbedCache(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        cache.loadEmbedsToCache();
+        return cache;
+    }
+
+    @Test
+    public void loadEmbedsToCache_WithValidJson_ShouldLoadAllEmbeds() {
+        EmbedCache cache = load(JSON);
+
+        assertEquals(2, cache.size());
+        EmbedDTO embed = cache.getEmbed("first");
+        assertEquals("Title", embed.getTitle());
+        assertEquals("Footer", embed.getFooter().getText());
+        assertEquals("b", embed.getFields()[0].getValue());
+        assertTrue(embed.getFields()[0].isInline());
+    }
+
+    @Test
+    public void loadEmbedsToCache_WithUnknownProperties_ShouldSkipThem() {
+        EmbedCache cache = load(JSON);
+
+        assertEquals("{prefix}help", cache.getEmbed("second").getDescription());
+    }
+
+    @Test
+    public void getTemplate_WithLoadedEmbed_ShouldRenderPlaceholders() {
+        EmbedCache cache = load(JSON);
+
+        assertEquals("!help", cache.getTemplate("second").render(Collections.singletonMap("prefix", "!")).getDescription());
+    }
+
+    @Test
+    public void loadEmbedsToCache_WithMalformedJson_ShouldStayEmpty() {
+        EmbedCache cache = load("{\"first\": {\"title\": ");
+
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    public void reload_WithChangedFile_ShouldOnlySwapChangedEmbeds() throws IOException {
+        File file = Files.createTempFile("embeds", ".json").toFile();
+        try {
+            Files.write(file.toPath(), JSON.getBytes(StandardCharsets.UTF_8));
+            EmbedCache cache = new EmbedCache(file);
+            cache.loadEmbedsToCache();
+            String changed = "{\"first\": {\"title\": \"Title\", \"color\": \"#ff0000\", \"footer\": {\"text\": \"Footer\"}," +
+                    "\"fields\": [{\"name\": \"a\", \"value\": \"b\", \"inline\": true}]}," +
+                    "\"third\": {\"title\": \"New\"}}";
+            Files.write(file.toPath(), changed.getBytes(StandardCharsets.UTF_8));
+
+            Set<String> names = cache.reload();
+
+            assertEquals(new HashSet<>(Arrays.asList("second", "third")), names);
+            assertEquals("New", cache.getEmbed("third").getTitle());
+            assertFalse(cache.containsEmbed("second"));
+            assertEquals("New", cache.getTemplate("third").render(null).getTitle());
+            assertNull(cache.getTemplate("second"));
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+}
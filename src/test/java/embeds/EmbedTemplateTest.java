@@ -0,0 +1,88 @@
+package embeds;
+
+import com.github.kaktushose.jda.commands.embeds.EmbedDTO;
+import com.github.kaktushose.jda.commands.embeds.EmbedTemplate;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmbedTemplateTest {
+
+    private EmbedDTO embed(String title, String description, EmbedDTO.Field... fields) {
+        EmbedDTO embed = new EmbedDTO();
+        embed.setTitle(title);
+        embed.setDescription(description);
+        embed.setFields(fields);
+        return embed;
+    }
+
+    @Test
+    public void compile_WithPlaceholders_ShouldCollectAllNames() {
+        EmbedTemplate template = EmbedTemplate.compile(embed("{prefix}{label}", "Use {prefix}help",
+                new EmbedDTO.Field("{name}", "value", false)));
+
+        assertEquals(new HashSet<>(Arrays.asList("prefix", "label", "name")), template.getPlaceholders());
+    }
+
+    @Test
+    public void render_WithValues_ShouldInjectAllPlaceholders() {
+        EmbedTemplate template = EmbedTemplate.compile(embed("{prefix}{label}", "Use {prefix}help",
+                new EmbedDTO.Field("Name", "`{name}`", true)));
+        Map<String, Object> values = new HashMap<>();
+        values.put("prefix", "!");
+        values.put("label", "ping");
+        values.put("name", "Ping");
+
+        MessageEmbed embed = template.render(values);
+
+        assertEquals("!ping", embed.getTitle());
+        assertEquals("Use !help", embed.getDescription());
+        assertEquals("`Ping`", embed.getFields().get(0).getValue());
+        assertTrue(embed.getFields().get(0).isInline());
+    }
+
+    @Test
+    public void render_WithMissingValue_ShouldKeepPlaceholder() {
+        EmbedTemplate template = EmbedTemplate.compile(embed("{prefix}{label}", null));
+
+        assertEquals("!{label}", template.render(Collections.singletonMap("prefix", "!")).getTitle());
+    }
+
+    @Test
+    public void render_WithRegexCharacters_ShouldInjectLiterally() {
+        EmbedTemplate template = EmbedTemplate.compile(embed("{prefix}help", null));
+
+        assertEquals("$1\\help", template.render(Collections.singletonMap("prefix", "$1\\")).getTitle());
+    }
+
+    @Test
+    public void render_WithUnclosedBrace_ShouldKeepLiteral() {
+        EmbedTemplate template = EmbedTemplate.compile(embed("{{prefix} {", null));
+
+        assertEquals("{! {", template.render(Collections.singletonMap("prefix", "!")).getTitle());
+    }
+
+    @Test
+    public void render_WithStaticColor_ShouldDecodeColor() {
+        EmbedDTO dto = embed("Title", null);
+        dto.setColor("#ff0000");
+
+        assertEquals(Color.RED, EmbedTemplate.compile(dto).render(null).getColor());
+    }
+
+    @Test
+    public void render_Twice_ShouldNotModifyTemplate() {
+        EmbedTemplate template = EmbedTemplate.compile(embed("{label}", null));
+
+        assertEquals("a", template.render(Collections.singletonMap("label", "a")).getTitle());
+        assertEquals("b", template.render(Collections.singletonMap("label", "b")).getTitle());
+    }
+}
@@ -0,0 +1,18 @@
+package embeds;
+
+import com.github.kaktushose.jda.commands.annotations.Command;
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+
+@CommandController
+public class HelpTestController {
+
+    @Command(value = "first", isSuper = true, category = "A")
+    public void firstCommand(CommandEvent event) {
+    }
+
+    @Command(value = "second", isSuper = true, category = "B")
+    public void secondCommand(CommandEvent event) {
+    }
+
+}
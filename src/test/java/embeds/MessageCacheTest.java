@@ -0,0 +1,75 @@
+package embeds;
+
+import com.github.kaktushose.jda.commands.embeds.MessageCache;
+import net.dv8tion.jda.api.MessageBuilder;
+import net.dv8tion.jda.api.entities.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageCacheTest {
+
+    private MessageCache cache;
+    private AtomicInteger renders;
+    private Supplier<Message> renderer;
+
+    @BeforeEach
+    public void setup() {
+        cache = new MessageCache(2);
+        renders = new AtomicInteger();
+        renderer = () -> new MessageBuilder().setContent(String.valueOf(renders.incrementAndGet())).build();
+    }
+
+    @Test
+    public void get_WithSameInputs_ShouldRenderOnce() {
+        Message first = cache.get("kind", null, renderer, "!", "help");
+        Message second = cache.get("kind", null, renderer, "!", "help");
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    public void get_WithDifferentInputs_ShouldRenderAgain() {
+        Message first = cache.get("kind", null, renderer, "!");
+        Message second = cache.get("kind", null, renderer, "?");
+
+        assertNotSame(first, second);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void get_WithChangedSource_ShouldDiscardMessages() {
+        Object source = new Object();
+        Message first = cache.get("kind", source, renderer);
+        Message second = cache.get("kind", new Object(), renderer);
+
+        assertNotSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_WithExceededMaximumSize_ShouldClearKind() {
+        cache.get("kind", null, renderer, 1);
+        cache.get("kind", null, renderer, 2);
+        cache.get("kind", null, renderer, 3);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void invalidate_WithKind_ShouldOnlyDiscardThatKind() {
+        cache.get("first", null, renderer);
+        cache.get("second", null, renderer);
+
+        cache.invalidate("first");
+
+        assertEquals(1, cache.size());
+        cache.get("first", null, renderer);
+        assertEquals(3, renders.get());
+    }
+}
@@ -0,0 +1,79 @@
+package filter;
+
+import adapting.mock.JDAMock;
+import adapting.mock.MessageMock;
+import com.github.kaktushose.jda.commands.dependency.DependencyInjector;
+import com.github.kaktushose.jda.commands.dispatching.CommandContext;
+import com.github.kaktushose.jda.commands.dispatching.CommandEvent;
+import com.github.kaktushose.jda.commands.dispatching.adapter.TypeAdapterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.FilterRegistry;
+import com.github.kaktushose.jda.commands.dispatching.filter.impl.CooldownFilter;
+import com.github.kaktushose.jda.commands.dispatching.validation.ValidatorRegistry;
+import com.github.kaktushose.jda.commands.reflect.CommandDefinition;
+import com.github.kaktushose.jda.commands.reflect.ImplementationRegistry;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import controller.ControllerDefinitionTestController;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CooldownFilterTest {
+
+    private static CommandDefinition command;
+
+    @BeforeAll
+    public static void setup() throws NoSuchMethodException {
+        ControllerDefinitionTestController instance = new ControllerDefinitionTestController();
+        command = CommandDefinition.build(
+                instance.getClass().getMethod("combine", CommandEvent.class),
+                instance,
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry()
+        ).orElse(null);
+        assertNotNull(command);
+        assertTrue(command.hasCooldown());
+    }
+
+    @Test
+    public void apply_OnOtherShard_ShouldKeepCooldown() {
+        CooldownFilter filter = new CooldownFilter();
+        CommandContext first = buildContext(0);
+        CommandContext second = buildContext(1);
+
+        filter.apply(first);
+        filter.apply(second);
+
+        assertFalse(first.isCancelled());
+        assertTrue(second.isCancelled());
+    }
+
+    private CommandContext buildContext(int shardId) {
+        JDA jda = new JDAMock() {
+            @Override
+            public ShardInfo getShardInfo() {
+                return new ShardInfo(shardId, 2);
+            }
+        };
+        MessageReceivedEvent event = new MessageReceivedEvent(jda, 0, new MessageMock()) {
+            @Override
+            public User getAuthor() {
+                return JDAMock.USER;
+            }
+        };
+        CommandContext context = new CommandContext();
+        context.setImplementationRegistry(new ImplementationRegistry(
+                new DependencyInjector(),
+                new FilterRegistry(),
+                new TypeAdapterRegistry(),
+                new ValidatorRegistry())
+        );
+        context.setSettings(new GuildSettings());
+        context.setEvent(event);
+        context.setCommand(command);
+        return context;
+    }
+}
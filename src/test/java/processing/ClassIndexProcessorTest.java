@@ -0,0 +1,159 @@
+package processing;
+
+import com.github.kaktushose.jda.commands.annotations.CommandController;
+import com.github.kaktushose.jda.commands.annotations.Component;
+import com.github.kaktushose.jda.commands.annotations.Produces;
+import com.github.kaktushose.jda.commands.processing.ClassIndexProcessor;
+import com.github.kaktushose.jda.commands.reflect.GeneratedClassIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassIndexProcessorTest {
+
+    private Path output;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        output = Files.createTempDirectory("class-index");
+    }
+
+    private boolean compile(DiagnosticCollector<JavaFileObject> diagnostics, String name, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        List<String> options = Arrays.asList("-d", output.toString(), "-classpath",
+                System.getProperty("java.class.path") + File.pathSeparator + output);
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new ClassIndexProcessor()));
+        return task.call();
+    }
+
+    private Optional<GeneratedClassIndex> load(String... packages) throws IOException, ClassNotFoundException {
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        return GeneratedClassIndex.load(classLoader.loadClass("sample.SampleController"), packages);
+    }
+
+    @Test
+    public void process_WithAnnotatedClasses_ShouldWriteIndex() throws IOException, ClassNotFoundException {
+        String source = "package sample;\n" +
+                "import com.github.kaktushose.jda.commands.annotations.*;\n" +
+                "@CommandController public class SampleController {\n" +
+                "    @Component public static class SampleComponent {}\n" +
+                "    @Produces public String produce() { return \"\"; }\n" +
+                "}\n";
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.SampleController", source));
+
+        String index = new String(Files.readAllBytes(output.resolve(GeneratedClassIndex.RESOURCE)), StandardCharsets.UTF_8);
+
+        assertEquals("component sample.SampleController$SampleComponent\n" +
+                "controller sample.SampleController\n" +
+                "producer sample.SampleController#produce\n", index);
+    }
+
+    @Test
+    public void process_WithIncrementalCompilation_ShouldKeepUnchangedEntries() throws IOException {
+        String first = "package sample;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.CommandController public class FirstController {}\n";
+        String second = "package sample;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.CommandController public class SecondController {}\n";
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.FirstController", first));
+
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.SecondController", second));
+        String index = new String(Files.readAllBytes(output.resolve(GeneratedClassIndex.RESOURCE)), StandardCharsets.UTF_8);
+
+        assertEquals("controller sample.FirstController\n" +
+                "controller sample.SecondController\n", index);
+    }
+
+    @Test
+    public void process_WithRemovedAnnotation_ShouldDropEntry() throws IOException {
+        String annotated = "package sample;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.CommandController public class FirstController {}\n";
+        String plain = "package sample;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.Component public class FirstController {}\n";
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.FirstController", annotated));
+
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.FirstController", plain));
+        String index = new String(Files.readAllBytes(output.resolve(GeneratedClassIndex.RESOURCE)), StandardCharsets.UTF_8);
+
+        assertEquals("component sample.FirstController\n", index);
+    }
+
+    @Test
+    public void process_WithProducerParameters_ShouldFail() {
+        String source = "package sample;\n" +
+                "public class SampleProducer {\n" +
+                "    @com.github.kaktushose.jda.commands.annotations.Produces public String produce(int i) { return \"\"; }\n" +
+                "}\n";
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        assertFalse(compile(diagnostics, "sample.SampleProducer", source));
+        assertTrue(diagnostics.getDiagnostics().stream().anyMatch(it -> it.getKind() == Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    public void load_WithGeneratedIndex_ShouldFindAnnotatedClasses() throws IOException, ClassNotFoundException {
+        String source = "package sample;\n" +
+                "import com.github.kaktushose.jda.commands.annotations.*;\n" +
+                "@CommandController public class SampleController {\n" +
+                "    @Produces public String produce() { return \"\"; }\n" +
+                "}\n";
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.SampleController", source));
+
+        GeneratedClassIndex index = load().orElseThrow(AssertionError::new);
+
+        assertEquals(1, index.getTypesAnnotatedWith(CommandController.class).size());
+        assertTrue(index.getTypesAnnotatedWith(Component.class).isEmpty());
+        assertEquals("produce", index.getMethodsAnnotatedWith(Produces.class).iterator().next().getName());
+    }
+
+    @Test
+    public void load_WithOtherPackage_ShouldExcludeClasses() throws IOException, ClassNotFoundException {
+        String source = "package sample;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.CommandController public class SampleController {}\n";
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.SampleController", source));
+
+        GeneratedClassIndex index = load("other").orElseThrow(AssertionError::new);
+
+        assertTrue(index.getTypesAnnotatedWith(CommandController.class).isEmpty());
+    }
+
+    @Test
+    public void load_WithoutIndex_ShouldReturnEmpty() {
+        assertFalse(GeneratedClassIndex.load(getClass()).isPresent());
+    }
+
+    @Test
+    public void load_WithIndexOfOtherCodeSource_ShouldReturnEmpty() throws IOException, ClassNotFoundException {
+        String dependency = "package library;\n" +
+                "@com.github.kaktushose.jda.commands.annotations.CommandController public class LibraryController {}\n";
+        assertTrue(compile(new DiagnosticCollector<>(), "library.LibraryController", dependency));
+        Path library = output;
+        output = Files.createTempDirectory("class-index");
+        assertTrue(compile(new DiagnosticCollector<>(), "sample.Application", "package sample;\npublic class Application {}\n"));
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL(), library.toUri().toURL()}, getClass().getClassLoader());
+
+        assertNotNull(classLoader.getResource(GeneratedClassIndex.RESOURCE));
+        assertFalse(GeneratedClassIndex.load(classLoader.loadClass("sample.Application")).isPresent());
+    }
+}
@@ -0,0 +1,78 @@
+package reload;
+
+import com.github.kaktushose.jda.commands.data.LongSet;
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsJsonRepository;
+import com.github.kaktushose.jda.commands.reload.FileWatcher;
+import com.github.kaktushose.jda.commands.settings.DefaultSettingsProvider;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileWatcherTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("reload");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.walk(directory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    @Test
+    public void watch_WithModifiedFile_ShouldRunCallback() throws IOException, InterruptedException {
+        Path file = directory.resolve("jdac.properties");
+        Files.write(file, "prefix=!".getBytes(StandardCharsets.UTF_8));
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try (FileWatcher watcher = new FileWatcher(50)) {
+            watcher.watch(file, latch::countDown);
+            Files.write(file, "prefix=?".getBytes(StandardCharsets.UTF_8));
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void reload_WithChangedProperties_ShouldSwapSettings() throws IOException {
+        Path file = directory.resolve("jdac.properties");
+        Files.write(file, "prefix=?\nhelpLabels=help, hilfe".getBytes(StandardCharsets.UTF_8));
+        DefaultSettingsProvider provider = new DefaultSettingsProvider();
+
+        assertTrue(provider.reload(file));
+        assertFalse(provider.reload(file));
+        assertEquals("?", provider.getSettings(null).getPrefix());
+    }
+
+    @Test
+    public void reload_WithModifiedRepositoryFile_ShouldReturnChangedIds() throws IOException {
+        File file = directory.resolve("guilds.json").toFile();
+        GuildSettingsJsonRepository repository = new GuildSettingsJsonRepository(file);
+        repository.save(1, new GuildSettings());
+        repository.save(2, new GuildSettings());
+        GuildSettingsJsonRepository other = new GuildSettingsJsonRepository(file);
+        other.save(2, new GuildSettings().setPrefix("?"));
+        other.save(3, new GuildSettings());
+
+        LongSet changed = repository.reload();
+
+        assertEquals(2, changed.size());
+        assertTrue(changed.contains(2) && changed.contains(3));
+        assertEquals("?", repository.findById(2).get().getPrefix());
+    }
+}
@@ -0,0 +1,126 @@
+package settings;
+
+import com.github.kaktushose.jda.commands.data.impl.GuildSettingsJsonRepository;
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.RepositorySettingsProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RepositorySettingsProviderTest {
+
+    private File tempFile;
+    private GuildSettingsJsonRepository repository;
+    private GuildSettings defaultSettings;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        tempFile = Files.createTempFile("settings", ".json").toFile();
+        Files.delete(tempFile.toPath());
+        repository = new GuildSettingsJsonRepository(tempFile);
+        repository.save(1, new GuildSettings().setGuildId(1).setPrefix("?"));
+        defaultSettings = new GuildSettings();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(tempFile.toPath());
+    }
+
+    @Test
+    public void getSettings_WithStoredGuild_ShouldReturnStoredSettings() {
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(repository, defaultSettings, 10);
+
+        assertEquals("?", provider.getSettings(1).getPrefix());
+    }
+
+    @Test
+    public void getSettings_WithUnknownGuild_ShouldReturnDefaultSettings() {
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(repository, defaultSettings, 10);
+
+        assertSame(defaultSettings, provider.getSettings(2));
+    }
+
+    @Test
+    public void updateSettings_WithNewSettings_ShouldWriteThrough() {
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(repository, defaultSettings, 10);
+
+        provider.updateSettings(2, new GuildSettings().setPrefix("$"));
+
+        assertEquals("$", provider.getSettings(2).getPrefix());
+        assertEquals("$", new GuildSettingsJsonRepository(tempFile).findById(2).get().getPrefix());
+    }
+
+    @Test
+    public void getSettings_WithSlowLoadOfOtherGuild_ShouldNotBlock() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GuildSettingsJsonRepository slowRepository = new GuildSettingsJsonRepository(tempFile) {
+            @Override
+            public Optional<GuildSettings> findById(long id) {
+                if (id == 1) {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.findById(id);
+            }
+        };
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(slowRepository, defaultSettings, 10);
+        CompletableFuture<GuildSettings> slow = CompletableFuture.supplyAsync(() -> provider.getSettings(1));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        GuildSettings other = CompletableFuture.supplyAsync(() -> provider.getSettings(2)).get(5, TimeUnit.SECONDS);
+
+        assertSame(defaultSettings, other);
+        release.countDown();
+        assertEquals("?", slow.get(5, TimeUnit.SECONDS).getPrefix());
+    }
+
+    @Test
+    public void getSettings_WithExceededMaximumSize_ShouldReloadEvictedSettings() {
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(repository, defaultSettings, 1);
+
+        GuildSettings first = provider.getSettings(1);
+        provider.getSettings(2);
+        provider.getSettings(3);
+
+        assertEquals(first.getPrefix(), provider.getSettings(1).getPrefix());
+    }
+
+    @Test
+    public void invalidate_WithModifiedRepository_ShouldReload() {
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(repository, defaultSettings, 10);
+        provider.getSettings(1);
+
+        repository.save(1, new GuildSettings().setGuildId(1).setPrefix("#"));
+        provider.invalidate(1);
+
+        assertEquals("#", provider.getSettings(1).getPrefix());
+    }
+
+    @Test
+    public void flush_WithWriteBehindRepository_ShouldWritePendingSettings() throws IOException {
+        repository.enableWriteBehind(1, TimeUnit.HOURS, Integer.MAX_VALUE);
+        RepositorySettingsProvider provider = new RepositorySettingsProvider(repository, defaultSettings, 10);
+        provider.updateSettings(2, new GuildSettings().setPrefix("$"));
+
+        provider.flush();
+
+        assertEquals("$", new GuildSettingsJsonRepository(tempFile).findById(2).get().getPrefix());
+        provider.close();
+    }
+}
@@ -0,0 +1,85 @@
+package settings;
+
+import com.github.kaktushose.jda.commands.settings.GuildSettings;
+import com.github.kaktushose.jda.commands.settings.SettingsSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SettingsSnapshotTest {
+
+    @Test
+    public void getSnapshot_WithoutModification_ShouldReturnSameInstance() {
+        GuildSettings settings = new GuildSettings();
+
+        assertSame(settings.getSnapshot(), settings.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_AfterModification_ShouldPublishNewSnapshot() {
+        GuildSettings settings = new GuildSettings();
+        SettingsSnapshot snapshot = settings.getSnapshot();
+
+        settings.setPrefix("?");
+
+        assertEquals("!", snapshot.getPrefix());
+        assertEquals("?", settings.getSnapshot().getPrefix());
+    }
+
+    @Test
+    public void getSnapshot_AfterMutatingHelpLabels_ShouldContainNewLabel() {
+        GuildSettings settings = new GuildSettings();
+        settings.getSnapshot();
+
+        settings.addHelpLabel("hilfe");
+
+        assertTrue(settings.getSnapshot().getHelpLabels().contains("hilfe"));
+    }
+
+    @Test
+    public void getSnapshot_AfterMutatingReturnedSet_ShouldContainNewLabel() {
+        GuildSettings settings = new GuildSettings();
+        settings.getSnapshot();
+
+        settings.getHelpLabels().add("hilfe");
+        settings.getMutedChannels().add(5L);
+
+        assertTrue(settings.getSnapshot().getHelpLabels().contains("hilfe"));
+        assertTrue(settings.getSnapshot().isMutedChannel(5));
+    }
+
+    @Test
+    public void isMutedChannel_WithMutedChannel_ShouldBeTrue() {
+        SettingsSnapshot snapshot = new GuildSettings().setMutedChannels(Arrays.asList(5L, 1L, 3L)).getSnapshot();
+
+        assertTrue(snapshot.isMutedChannel(3));
+        assertFalse(snapshot.isMutedChannel(2));
+    }
+
+    @Test
+    public void isHelpLabel_WithTypo_ShouldMatch() {
+        SettingsSnapshot snapshot = new GuildSettings().getSnapshot();
+
+        assertTrue(snapshot.isHelpLabel("hel"));
+        assertTrue(snapshot.isHelpLabel("hepl"));
+        assertFalse(snapshot.isHelpLabel("foo"));
+    }
+
+    @Test
+    public void isHelpLabel_WithZeroMaxDistance_ShouldNeverMatch() {
+        SettingsSnapshot snapshot = new GuildSettings().setMaxDistance(0).getSnapshot();
+
+        assertFalse(snapshot.isHelpLabel("help"));
+    }
+
+    @Test
+    public void startsWithPrefix_WithIgnoreCase_ShouldMatchDifferentCase() {
+        SettingsSnapshot snapshot = new GuildSettings().setPrefix("bot!").setHelpLabels(Collections.emptyList()).getSnapshot();
+
+        assertTrue(snapshot.startsWithPrefix("BOT!ping"));
+        assertEquals("help", snapshot.getHelpLabel());
+    }
+}
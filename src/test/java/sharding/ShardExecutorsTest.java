@@ -0,0 +1,63 @@
+package sharding;
+
+import com.github.kaktushose.jda.commands.dispatching.ShardExecutors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardExecutorsTest {
+
+    private ShardExecutors executors;
+
+    @BeforeEach
+    public void setup() {
+        executors = new ShardExecutors();
+    }
+
+    @Test
+    public void execute_WithSameShard_ShouldKeepOrder() {
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            executors.execute(0, () -> result.add(value));
+        }
+
+        assertTrue(executors.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(100, result.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) result.get(i));
+        }
+    }
+
+    @Test
+    public void execute_WithDifferentShards_ShouldUseDifferentThreads() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        executors.execute(0, () -> threads.add(Thread.currentThread().getName()));
+        executors.execute(1, () -> threads.add(Thread.currentThread().getName()));
+
+        assertTrue(executors.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(2, executors.size());
+        assertEquals(2, threads.size());
+    }
+
+    @Test
+    public void execute_AfterShutdown_ShouldReject() {
+        AtomicBoolean executed = new AtomicBoolean();
+        executors.shutdown(1, TimeUnit.SECONDS);
+
+        executors.execute(0, () -> executed.set(true));
+
+        assertFalse(executed.get());
+    }
+}
@@ -0,0 +1,54 @@
+package shutdown;
+
+import com.github.kaktushose.jda.commands.dispatching.InFlightTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InFlightTrackerTest {
+
+    private InFlightTracker tracker;
+
+    @BeforeEach
+    public void setup() {
+        tracker = new InFlightTracker();
+    }
+
+    @Test
+    public void tryEnter_AfterClose_ShouldReject() {
+        tracker.close();
+
+        assertFalse(tracker.tryEnter());
+        assertEquals(0, tracker.getCount());
+    }
+
+    @Test
+    public void awaitIdle_WithCompletingEvent_ShouldReturnTrue() throws InterruptedException {
+        assertTrue(tracker.tryEnter());
+        tracker.close();
+        Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            tracker.exit();
+        });
+        thread.start();
+
+        assertTrue(tracker.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(0, tracker.getCount());
+        thread.join();
+    }
+
+    @Test
+    public void awaitIdle_WithHangingEvent_ShouldTimeOut() {
+        assertTrue(tracker.tryEnter());
+        tracker.close();
+
+        assertFalse(tracker.awaitIdle(50, TimeUnit.MILLISECONDS));
+        assertEquals(1, tracker.getCount());
+    }
+}
@@ -0,0 +1,68 @@
+package startup;
+
+import com.github.kaktushose.jda.commands.dispatching.StartupReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupReportTest {
+
+    @Test
+    public void record_WithMultiplePhases_ShouldKeepOrder() {
+        StartupReport.Recorder recorder = new StartupReport.Recorder();
+
+        recorder.record("first", () -> {
+        });
+        String result = recorder.record("second", () -> "result");
+        StartupReport report = recorder.build();
+
+        assertEquals("result", result);
+        assertEquals(2, report.getPhases().size());
+        assertEquals("first", report.getPhases().get(0).getName());
+        assertEquals("second", report.getPhases().get(1).getName());
+    }
+
+    @Test
+    public void record_WithAllocation_ShouldMeasureBytes() {
+        StartupReport.Recorder recorder = new StartupReport.Recorder();
+
+        recorder.record("allocation", () -> {
+            List<byte[]> list = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                list.add(new byte[1024 * 64]);
+            }
+            return list;
+        });
+        StartupReport.Phase phase = recorder.build().getPhase("allocation").get();
+
+        assertTrue(phase.getAllocatedBytes() < 0 || phase.getAllocatedBytes() >= 1024 * 1024);
+        assertFalse(phase.getDuration().isNegative());
+    }
+
+    @Test
+    public void record_WithException_ShouldStillRecordPhase() {
+        StartupReport.Recorder recorder = new StartupReport.Recorder();
+
+        assertThrows(IllegalStateException.class, () -> recorder.record("failing", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(recorder.build().getPhase("failing").isPresent());
+    }
+
+    @Test
+    public void getTotalDuration_WithPhases_ShouldSumDurations() {
+        StartupReport.Recorder recorder = new StartupReport.Recorder();
+        recorder.record("first", () -> {
+        });
+        recorder.record("second", () -> {
+        });
+        StartupReport report = recorder.build();
+
+        assertEquals(report.getPhases().get(0).getDuration().plus(report.getPhases().get(1).getDuration()),
+                report.getTotalDuration());
+    }
+}